@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.model.*;
 import org.example.repository.*;
+import org.example.service.UserStatisticsService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.ClassPathResource;
@@ -32,6 +33,7 @@ public class DataInitializer implements CommandLineRunner {
     private final TaskRepository taskRepository;
     private final DataSource dataSource;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatisticsService userStatisticsService;
 
     @Override
     @Transactional
@@ -42,6 +44,7 @@ public class DataInitializer implements CommandLineRunner {
             initializeCategories();
             initializeUsers();
             initializeTasks();
+            userStatisticsService.rebuild();
             
             log.info("Database initialization completed successfully!");
         } else {
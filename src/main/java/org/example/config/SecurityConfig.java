@@ -1,7 +1,10 @@
 package org.example.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.example.security.BoundedPasswordEncoder;
 import org.example.security.JwtAuthenticationFilter;
+import org.example.security.PasswordHashingExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -14,7 +17,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -32,8 +34,8 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 
     @Bean
@@ -68,6 +70,7 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/error").permitAll()
                 .requestMatchers(HttpMethod.POST, "/auth/register", "/auth/login").permitAll()
                 .requestMatchers(HttpMethod.POST, "/auth/refresh", "/auth/logout").permitAll()
@@ -86,6 +89,8 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.DELETE, "/tasks/**").authenticated()
                 .requestMatchers(HttpMethod.POST, "/tasks/*/join").authenticated()
                 .requestMatchers(HttpMethod.DELETE, "/tasks/*/leave").authenticated()
+                .requestMatchers(HttpMethod.POST, "/tasks/*/waitlist").authenticated()
+                .requestMatchers(HttpMethod.POST, "/tasks/*/group-join", "/tasks/*/group-leave").authenticated()
                 .requestMatchers(HttpMethod.PATCH, "/tasks/*/complete").authenticated()
                 .requestMatchers(HttpMethod.PATCH, "/tasks/*/cancel").authenticated()
                 
@@ -96,6 +101,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/users").hasRole("ADMIN")
                 .requestMatchers("/users/**").hasRole("ADMIN")
                 .requestMatchers("/actuator/**").hasRole("ADMIN")
+                .requestMatchers("/admin/**").hasRole("ADMIN")
                 
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,68 @@
+package org.example.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.TaskExportFormat;
+import org.example.dto.UserImportResponse;
+import org.example.service.TaskExportService;
+import org.example.service.UserImportService;
+import org.example.service.UserStatisticsService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Admin", description = "Administrative endpoints")
+public class AdminController {
+
+    private final TaskExportService taskExportService;
+    private final UserStatisticsService userStatisticsService;
+    private final UserImportService userImportService;
+
+    @GetMapping("/tasks/export")
+    @Operation(summary = "Export tasks", description = "Stream all tasks as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportFormat exportFormat = TaskExportFormat.from(format);
+        String filename = "tasks-" + LocalDate.now() + "." + exportFormat.getExtension();
+
+        StreamingResponseBody body = outputStream -> taskExportService.exportTasks(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    @PostMapping("/users/statistics/rebuild")
+    @Operation(summary = "Rebuild user statistics", description = "Recompute every user's statistics from tasks and participations")
+    public ResponseEntity<Map<String, Integer>> rebuildUserStatistics() {
+        return ResponseEntity.ok(Map.of("users", userStatisticsService.rebuild()));
+    }
+
+    @PostMapping(value = "/users/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import users", description = "Register users from a CSV file with the columns " +
+            "username,email,password,firstName,lastName,userType and optionally phone,bio,address")
+    public ResponseEntity<UserImportResponse> importUsers(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(userImportService.importUsers(csv));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.AuthRequest;
 import org.example.dto.AuthResponse;
+import org.example.dto.RefreshTokenRequest;
 import org.example.dto.UserRegistrationRequest;
 import org.example.service.AuthService;
 import org.springframework.http.HttpStatus;
@@ -35,19 +36,20 @@ public class AuthController {
     }
 
     @PostMapping("/refresh")
-    @Operation(summary = "Refresh JWT token", description = "Refresh JWT token using existing valid token")
-    public ResponseEntity<AuthResponse> refresh(@RequestHeader("Authorization") String token) {
-        if (token != null && token.startsWith("Bearer ")) {
-            String jwt = token.substring(7);
-            AuthResponse response = authService.refreshToken(jwt);
-            return ResponseEntity.ok(response);
-        }
-        return ResponseEntity.badRequest().build();
+    @Operation(summary = "Refresh tokens", description = "Exchange a refresh token for a new access token and refresh token")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refreshToken(request.getRefreshToken());
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/logout")
-    @Operation(summary = "User logout", description = "Logout user (token blacklisting can be implemented here)")
-    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok().build();
+    @Operation(summary = "User logout", description = "Revoke the bearer token until it expires, and the refresh token if given")
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String token,
+                                       @RequestBody(required = false) RefreshTokenRequest request) {
+        if (token != null && token.startsWith("Bearer ")) {
+            authService.logout(token.substring(7), request != null ? request.getRefreshToken() : null);
+            return ResponseEntity.ok().build();
+        }
+        return ResponseEntity.badRequest().build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.example.util.FieldSelection;
+import org.example.util.FieldSelectionFilter;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Applies the {@code fields=} request parameter to task and user responses.
+ * Endpoints still declare the parameter so it shows up in the API docs.
+ */
+@ControllerAdvice(assignableTypes = {TaskController.class, UserController.class})
+public class FieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAM = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection selection = FieldSelection.parse(servletRequest.getServletRequest().getParameter(FIELDS_PARAM));
+        if (!selection.isAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider()
+                    .addFilter(FieldSelectionFilter.ID, new FieldSelectionFilter(selection))
+                    .setFailOnUnknownId(false));
+        }
+    }
+}
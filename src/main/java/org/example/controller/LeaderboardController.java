@@ -0,0 +1,39 @@
+package org.example.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.LeaderboardEntryResponse;
+import org.example.model.LeaderboardMetric;
+import org.example.service.VolunteerLeaderboard;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Leaderboard", description = "Volunteer rankings")
+public class LeaderboardController {
+
+    private final VolunteerLeaderboard volunteerLeaderboard;
+
+    @GetMapping("/volunteers")
+    @Operation(summary = "Top volunteers", description = "Top volunteers of a month by completed tasks or by people helped")
+    public ResponseEntity<Page<LeaderboardEntryResponse>> getTopVolunteers(
+            @RequestParam(defaultValue = "COMPLETED_TASKS") LeaderboardMetric metric,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth period,
+            Pageable pageable) {
+        YearMonth month = period != null ? period : YearMonth.now();
+        return ResponseEntity.ok(volunteerLeaderboard.top(metric, month, pageable));
+    }
+}
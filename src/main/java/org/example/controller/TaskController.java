@@ -1,17 +1,26 @@
 package org.example.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.dto.CursorPage;
+import org.example.dto.GroupParticipationRequest;
+import org.example.dto.NearbyTaskResponse;
+import org.example.dto.TaskListItemResponse;
 import org.example.dto.TaskRequest;
 import org.example.dto.TaskResponse;
+import org.example.dto.TaskSearchResponse;
 import org.example.dto.TaskUpdateRequest;
+import org.example.dto.WaitlistResponse;
 import org.example.model.TaskStatus;
 import org.example.service.TaskService;
+import org.example.util.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +29,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/tasks")
@@ -30,49 +40,158 @@ public class TaskController {
     private final TaskService taskService;
 
     @GetMapping
-    @Operation(summary = "Get all tasks", description = "Get paginated list of all tasks with optional filters")
-    public ResponseEntity<Page<TaskResponse>> getAllTasks(
+    @Operation(summary = "Get all tasks", description = "Get paginated list of all tasks with optional filters; sort=freeSeats lists almost full tasks first")
+    public ResponseEntity<Page<TaskListItemResponse>> getAllTasks(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateTo,
+            @RequestParam(defaultValue = "false") boolean hasFreeSeats,
             Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getAllTasks(title, location, categoryId, status, 
-                startDateFrom, startDateTo, pageable);
+        Page<TaskListItemResponse> tasks = taskService.getAllTasks(title, location, categoryId, status, 
+                startDateFrom, startDateTo, hasFreeSeats, pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/slice")
+    @Operation(summary = "Get tasks without total", description = "Same filters as the task list, returns a slice with hasNext instead of a total count")
+    public ResponseEntity<Slice<TaskListItemResponse>> getTaskSlice(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDateTo,
+            @RequestParam(defaultValue = "false") boolean hasFreeSeats,
+            Pageable pageable) {
+        Slice<TaskListItemResponse> tasks = taskService.getTaskSlice(title, location, categoryId, status,
+                startDateFrom, startDateTo, hasFreeSeats, pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks", description = "Full-text search over task title and description, ranked by relevance with highlighted fragments")
+    public ResponseEntity<Page<TaskSearchResponse>> searchTasks(
+            @RequestParam String q,
+            Pageable pageable) {
+        Page<TaskSearchResponse> results = taskService.searchTasks(q, pageable);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Find nearby tasks", description = "Tasks within a radius of the given point, nearest first")
+    public ResponseEntity<List<NearbyTaskResponse>> findNearbyTasks(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "3") double radiusKm,
+            @RequestParam(defaultValue = "OPEN") TaskStatus status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<NearbyTaskResponse> tasks = taskService.findNearbyTasks(lat, lon, radiusKm, status, categoryId, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll tasks", description = "Cursor-based list of tasks ordered by start date, without total count")
+    public ResponseEntity<CursorPage<TaskListItemResponse>> scrollTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<TaskListItemResponse> tasks = taskService.scrollTasks(status, after, limit);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get task by ID", description = "Get task details by ID")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        TaskResponse task = taskService.getTaskById(id);
+    @Operation(summary = "Get task by ID", description = "Get task details by ID; fields=id,title,creator.username limits the returned properties")
+    public ResponseEntity<TaskResponse> getTaskById(
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,title,creator.username")
+            @RequestParam(required = false) String fields) {
+        TaskResponse task = taskService.getTaskById(id, FieldSelection.parse(fields));
         return ResponseEntity.ok(task);
     }
 
     @GetMapping("/creator/{creatorId}")
     @Operation(summary = "Get tasks by creator", description = "Get paginated list of tasks created by specific user")
-    public ResponseEntity<Page<TaskResponse>> getTasksByCreator(
+    public ResponseEntity<Page<TaskListItemResponse>> getTasksByCreator(
+            @PathVariable Long creatorId,
+            Pageable pageable) {
+        Page<TaskListItemResponse> tasks = taskService.getTasksByCreator(creatorId, pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/creator/{creatorId}/slice")
+    @Operation(summary = "Get tasks by creator without total", description = "Slice of tasks created by specific user with hasNext instead of a total count")
+    public ResponseEntity<Slice<TaskListItemResponse>> getTaskSliceByCreator(
             @PathVariable Long creatorId,
             Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getTasksByCreator(creatorId, pageable);
+        Slice<TaskListItemResponse> tasks = taskService.getTaskSliceByCreator(creatorId, pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/creator/{creatorId}/scroll")
+    @Operation(summary = "Scroll tasks by creator", description = "Cursor-based list of tasks created by specific user")
+    public ResponseEntity<CursorPage<TaskListItemResponse>> scrollTasksByCreator(
+            @PathVariable Long creatorId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<TaskListItemResponse> tasks = taskService.scrollTasksByCreator(creatorId, after, limit);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/my-tasks")
     @SecurityRequirement(name = "Bearer Authentication")
     @Operation(summary = "Get current user's created tasks", description = "Get paginated list of tasks created by current user")
-    public ResponseEntity<Page<TaskResponse>> getMyTasks(Authentication authentication, Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getTasksByCreatorUsername(authentication.getName(), pageable);
+    public ResponseEntity<Page<TaskResponse>> getMyTasks(
+            Authentication authentication,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,title,creator.username")
+            @RequestParam(required = false) String fields,
+            Pageable pageable) {
+        Page<TaskResponse> tasks = taskService.getTasksByCreatorUsername(authentication.getName(), pageable,
+                FieldSelection.parse(fields));
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/my-participations")
     @SecurityRequirement(name = "Bearer Authentication")
     @Operation(summary = "Get current user's task participations", description = "Get paginated list of tasks where current user is a participant")
-    public ResponseEntity<Page<TaskResponse>> getMyParticipations(Authentication authentication, Pageable pageable) {
-        Page<TaskResponse> tasks = taskService.getTasksByParticipantUsername(authentication.getName(), pageable);
+    public ResponseEntity<Page<TaskResponse>> getMyParticipations(
+            Authentication authentication,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,title,creator.username")
+            @RequestParam(required = false) String fields,
+            Pageable pageable) {
+        Page<TaskResponse> tasks = taskService.getTasksByParticipantUsername(authentication.getName(), pageable,
+                FieldSelection.parse(fields));
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/my-tasks/scroll")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Scroll current user's created tasks", description = "Cursor-based list of tasks created by current user")
+    public ResponseEntity<CursorPage<TaskResponse>> scrollMyTasks(
+            Authentication authentication,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,title,creator.username")
+            @RequestParam(required = false) String fields) {
+        CursorPage<TaskResponse> tasks = taskService.scrollTasksByCreatorUsername(authentication.getName(), after, limit,
+                FieldSelection.parse(fields));
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/my-participations/scroll")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Scroll current user's task participations", description = "Cursor-based list of tasks where current user is a participant")
+    public ResponseEntity<CursorPage<TaskResponse>> scrollMyParticipations(
+            Authentication authentication,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,title,creator.username")
+            @RequestParam(required = false) String fields) {
+        CursorPage<TaskResponse> tasks = taskService.scrollTasksByParticipantUsername(authentication.getName(), after, limit,
+                FieldSelection.parse(fields));
         return ResponseEntity.ok(tasks);
     }
 
@@ -124,6 +243,55 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
+    @PostMapping("/{id}/group-join")
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Join task as a group", description = "Reserve seats for a team of volunteers the caller belongs to; either all of them join or none")
+    public ResponseEntity<TaskResponse> joinTaskAsGroup(@PathVariable Long id,
+                                                        @Valid @RequestBody GroupParticipationRequest request,
+                                                        Authentication authentication) {
+        TaskResponse task = taskService.joinTaskAsGroup(id, request.getUsernames(), authentication.getName());
+        return ResponseEntity.ok(task);
+    }
+
+    @PostMapping("/{id}/group-leave")
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Leave task as a group", description = "Release the seats of a team of volunteers the caller belongs to; either all of them leave or none")
+    public ResponseEntity<TaskResponse> leaveTaskAsGroup(@PathVariable Long id,
+                                                         @Valid @RequestBody GroupParticipationRequest request,
+                                                         Authentication authentication) {
+        TaskResponse task = taskService.leaveTaskAsGroup(id, request.getUsernames(), authentication.getName());
+        return ResponseEntity.ok(task);
+    }
+
+    @PostMapping("/{id}/waitlist")
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Join waitlist", description = "Queue for a full task; the next released seat goes to the first volunteer in line")
+    public ResponseEntity<WaitlistResponse> joinWaitlist(@PathVariable Long id, Authentication authentication) {
+        WaitlistResponse waitlist = taskService.joinWaitlist(id, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(waitlist);
+    }
+
+    @GetMapping("/{id}/waitlist")
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Get waitlist position", description = "Current place of the volunteer in the task waitlist")
+    public ResponseEntity<WaitlistResponse> getWaitlistPosition(@PathVariable Long id, Authentication authentication) {
+        WaitlistResponse waitlist = taskService.getWaitlistPosition(id, authentication.getName());
+        return ResponseEntity.ok(waitlist);
+    }
+
+    @DeleteMapping("/{id}/waitlist")
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Leave waitlist", description = "Give up the place in the task waitlist")
+    public ResponseEntity<Void> leaveWaitlist(@PathVariable Long id, Authentication authentication) {
+        taskService.leaveWaitlist(id, authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+
     @PatchMapping("/{id}/complete")
     @SecurityRequirement(name = "Bearer Authentication")
     @Operation(summary = "Complete task", description = "Mark task as completed (only task creator)")
@@ -1,6 +1,7 @@
 package org.example.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -34,6 +35,8 @@ public class UserController {
             @RequestParam(required = false) String email,
             @RequestParam(required = false) UserType userType,
             @RequestParam(required = false) Boolean isActive,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username,email")
+            @RequestParam(required = false) String fields,
             Pageable pageable) {
         Page<UserResponse> users = userService.getAllUsers(username, email, userType, isActive, pageable);
         return ResponseEntity.ok(users);
@@ -43,14 +46,20 @@ public class UserController {
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get user by ID", description = "Get user details by ID")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserResponse> getUserById(
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username,email")
+            @RequestParam(required = false) String fields) {
         UserResponse user = userService.getUserById(id);
         return ResponseEntity.ok(user);
     }
 
     @GetMapping("/profile")
     @Operation(summary = "Get current user profile", description = "Get current authenticated user's profile")
-    public ResponseEntity<UserResponse> getCurrentUserProfile(Authentication authentication) {
+    public ResponseEntity<UserResponse> getCurrentUserProfile(
+            Authentication authentication,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username,email")
+            @RequestParam(required = false) String fields) {
         UserResponse user = userService.getUserByUsername(authentication.getName());
         return ResponseEntity.ok(user);
     }
@@ -59,7 +68,9 @@ public class UserController {
     @Operation(summary = "Update current user profile", description = "Update current authenticated user's profile")
     public ResponseEntity<UserResponse> updateCurrentUserProfile(
             @Valid @RequestBody UserUpdateRequest request,
-            Authentication authentication) {
+            Authentication authentication,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username,email")
+            @RequestParam(required = false) String fields) {
         UserResponse updatedUser = userService.updateProfile(authentication.getName(), request);
         return ResponseEntity.ok(updatedUser);
     }
@@ -69,7 +80,9 @@ public class UserController {
     @Operation(summary = "Update user", description = "Update user by ID (Admin only)")
     public ResponseEntity<UserResponse> updateUser(
             @PathVariable Long id,
-            @Valid @RequestBody UserUpdateRequest request) {
+            @Valid @RequestBody UserUpdateRequest request,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,username,email")
+            @RequestParam(required = false) String fields) {
         UserResponse updatedUser = userService.updateUser(id, request);
         return ResponseEntity.ok(updatedUser);
     }
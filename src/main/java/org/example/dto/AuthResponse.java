@@ -11,12 +11,14 @@ public class AuthResponse {
     
     private String token;
     private String type = "Bearer";
+    private String refreshToken;
     private String username;
     private String email;
     private String userType;
     
-    public AuthResponse(String token, String username, String email, String userType) {
+    public AuthResponse(String token, String refreshToken, String username, String email, String userType) {
         this.token = token;
+        this.refreshToken = refreshToken;
         this.username = username;
         this.email = email;
         this.userType = userType;
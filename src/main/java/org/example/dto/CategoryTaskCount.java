@@ -0,0 +1,6 @@
+package org.example.dto;
+
+import org.example.model.TaskStatus;
+
+public record CategoryTaskCount(Long categoryId, TaskStatus status, long count) {
+}
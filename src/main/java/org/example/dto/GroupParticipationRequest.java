@@ -0,0 +1,22 @@
+package org.example.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupParticipationRequest {
+    
+    @NotEmpty(message = "At least one username is required")
+    @Size(max = 100, message = "A group must not exceed 100 volunteers")
+    private List<@NotBlank(message = "Username must not be blank") String> usernames;
+}
@@ -0,0 +1,19 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntryResponse {
+    
+    private Integer rank;
+    private Long userId;
+    private String username;
+    private String fullName;
+    private Long score;
+}
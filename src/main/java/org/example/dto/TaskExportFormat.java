@@ -0,0 +1,33 @@
+package org.example.dto;
+
+import org.example.exception.BadRequestException;
+
+public enum TaskExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TaskExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static TaskExportFormat from(String format) {
+        for (TaskExportFormat candidate : values()) {
+            if (candidate.extension.equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new BadRequestException("Unsupported export format: " + format);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.dto;
+
+import org.example.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public record TaskExportRow(
+        Long id,
+        String title,
+        String description,
+        String location,
+        Double latitude,
+        Double longitude,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        TaskStatus status,
+        Integer maxParticipants,
+        Integer currentParticipants,
+        String category,
+        String creator,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
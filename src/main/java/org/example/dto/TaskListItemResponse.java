@@ -0,0 +1,29 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.util.FieldSelectionFilter;
+
+import java.time.LocalDateTime;
+
+@Data
+@JsonFilter(FieldSelectionFilter.ID)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskListItemResponse {
+    
+    private Long id;
+    private String title;
+    private String location;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String status;
+    private String categoryName;
+    private String creatorName;
+    private Integer currentParticipants;
+    private Integer maxParticipants;
+}
@@ -1,14 +1,17 @@
 package org.example.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.example.util.FieldSelectionFilter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
+@JsonFilter(FieldSelectionFilter.ID)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -18,6 +21,8 @@ public class TaskResponse {
     private String title;
     private String description;
     private String location;
+    private Double latitude;
+    private Double longitude;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private Integer maxParticipants;
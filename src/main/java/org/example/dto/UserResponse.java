@@ -1,13 +1,16 @@
 package org.example.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.example.util.FieldSelectionFilter;
 
 import java.time.LocalDateTime;
 
 @Data
+@JsonFilter(FieldSelectionFilter.ID)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
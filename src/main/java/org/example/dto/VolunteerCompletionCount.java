@@ -0,0 +1,7 @@
+package org.example.dto;
+
+/**
+ * Completed participations of one volunteer in tasks of one creator during a month.
+ */
+public record VolunteerCompletionCount(Long volunteerId, Long creatorId, int year, int month, long completions) {
+}
@@ -0,0 +1,98 @@
+package org.example.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.search.SearchTokenizer;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Offline geocoder for free-text task locations. Resolves to the most specific
+ * known place mentioned in the text (street, then district, then city), which
+ * is precise enough for "near me" radius queries without an external service.
+ */
+@Component
+@Slf4j
+public class Gazetteer {
+
+    private static final String RESOURCE = "geo/gazetteer.csv";
+
+    private final List<Place> places;
+
+    public Gazetteer() {
+        this.places = load();
+        log.info("Loaded {} gazetteer places", places.size());
+    }
+
+    public Optional<GeoPoint> resolve(String location) {
+        List<String> tokens = SearchTokenizer.tokenize(location);
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Place> matches = places.stream()
+                .filter(place -> place.matches(tokens))
+                .toList();
+        List<String> cities = matches.stream()
+                .filter(place -> place.type() == PlaceType.CITY)
+                .map(Place::name)
+                .toList();
+
+        // A street is only trusted inside its own city; with no city mentioned, any street may match
+        return matches.stream()
+                .filter(place -> place.city() == null || cities.isEmpty() || cities.contains(place.city()))
+                .max(Comparator.comparing(Place::type).thenComparingInt(place -> place.tokens().size()))
+                .map(Place::point);
+    }
+
+    private static List<Place> load() {
+        List<Place> loaded = new ArrayList<>();
+        ClassPathResource resource = new ClassPathResource(RESOURCE);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(";", -1);
+                String name = String.join(" ", SearchTokenizer.tokenize(columns[0]));
+                String city = columns[2].isBlank() ? null : String.join(" ", SearchTokenizer.tokenize(columns[2]));
+                loaded.add(new Place(name, SearchTokenizer.tokenize(columns[0]), PlaceType.valueOf(columns[1]), city,
+                        new GeoPoint(Double.parseDouble(columns[3]), Double.parseDouble(columns[4]))));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load gazetteer from " + RESOURCE, e);
+        }
+        return List.copyOf(loaded);
+    }
+
+    enum PlaceType {
+        CITY, DISTRICT, STREET
+    }
+
+    private record Place(String name, List<String> tokens, PlaceType type, String city, GeoPoint point) {
+
+        boolean matches(List<String> text) {
+            for (int start = 0; start + tokens.size() <= text.size(); start++) {
+                int matched = 0;
+                while (matched < tokens.size() && text.get(start + matched).startsWith(tokens.get(matched))) {
+                    matched++;
+                }
+                if (matched == tokens.size()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.geo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    public static final double KM_PER_DEGREE = 111.32;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Cells of one precision that together cover the circle around the point: the
+     * finest precision whose cell is at least as large as the radius, so the
+     * centre cell and its eight neighbours always contain the whole circle.
+     */
+    public static Set<String> coveringCells(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        int precision = 1;
+        for (int candidate = MAX_PRECISION; candidate >= 1; candidate--) {
+            if (cellHeight(candidate) >= latDelta && cellWidth(candidate) >= lonDelta) {
+                precision = candidate;
+                break;
+            }
+        }
+
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                double lat = Math.max(-89.999999, Math.min(89.999999, latitude + dy * height));
+                double lon = longitude + dx * width;
+                if (lon >= 180) {
+                    lon -= 360;
+                } else if (lon < -180) {
+                    lon += 360;
+                }
+                cells.add(encode(lat, lon, precision));
+            }
+        }
+        return cells;
+    }
+
+    static double cellHeight(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    static double cellWidth(int precision) {
+        int lonBits = 5 * precision - (5 * precision) / 2;
+        return 360.0 / (1L << lonBits);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.exception.BadRequestException;
+import org.example.model.Task;
+import org.example.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class TaskGeocoder {
+
+    private final Gazetteer gazetteer;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TaskGeocoder(Gazetteer gazetteer,
+                        TaskRepository taskRepository,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${app.geo.geocode-batch-size:500}") int batchSize) {
+        this.gazetteer = gazetteer;
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the task coordinates, preferring the ones supplied by the client
+     * (e.g. from the device GPS) over the gazetteer lookup of the location text.
+     */
+    public void geocode(Task task, Double latitude, Double longitude) {
+        GeoPoint point;
+        if (latitude != null && longitude != null) {
+            point = new GeoPoint(latitude, longitude);
+        } else if (latitude != null || longitude != null) {
+            throw new BadRequestException("Latitude and longitude must be provided together");
+        } else {
+            point = gazetteer.resolve(task.getLocation()).orElse(null);
+        }
+        apply(task, point);
+    }
+
+    /**
+     * Geocodes the tasks that predate coordinates, one batch per transaction.
+     * Tasks the gazetteer cannot resolve are marked and not tried again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void geocodeMissing() {
+        long afterId = 0;
+        int attempted = 0;
+        int resolved = 0;
+        List<Task> batch;
+        do {
+            long lastId = afterId;
+            batch = transactionTemplate.execute(status -> geocodeBatch(lastId));
+            if (batch.isEmpty()) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+            attempted += batch.size();
+            resolved += (int) batch.stream().filter(task -> task.getGeohash() != null).count();
+        } while (batch.size() == batchSize);
+        if (attempted > 0) {
+            log.info("Geocoded {} of {} tasks without coordinates", resolved, attempted);
+        }
+    }
+
+    private List<Task> geocodeBatch(long afterId) {
+        List<Task> tasks = taskRepository.findNotGeocodedAfter(afterId, PageRequest.ofSize(batchSize));
+        for (Task task : tasks) {
+            apply(task, gazetteer.resolve(task.getLocation()).orElse(null));
+        }
+        return tasks;
+    }
+
+    private void apply(Task task, GeoPoint point) {
+        task.setLatitude(point != null ? point.latitude() : null);
+        task.setLongitude(point != null ? point.longitude() : null);
+        task.setGeohash(point != null ? GeoHash.encode(point.latitude(), point.longitude(), GeoHash.MAX_PRECISION) : null);
+        task.setGeocodeFailedAt(point != null ? null : LocalDateTime.now());
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.geo;
+
+public record TaskLocation(Long taskId, Double latitude, Double longitude) {
+}
@@ -0,0 +1,6 @@
+package org.example.model;
+
+public enum LeaderboardMetric {
+    COMPLETED_TASKS,
+    PEOPLE_HELPED
+}
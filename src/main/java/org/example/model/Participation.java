@@ -6,35 +6,54 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
+/**
+ * Membership of a volunteer in a task, one row per pair in task_participants.
+ * Rows are written by the bulk statements in TaskRepository; the entity is
+ * used for reading.
+ */
 @Entity
-@Table(name = "participations")
+@Table(name = "task_participants",
+    indexes = @Index(name = "idx_task_participants_user_status", columnList = "user_id, status"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Participation {
     
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @EmbeddedId
+    private ParticipationId id;
+    
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @MapsId("taskId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+    
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
     
     @CreationTimestamp
     @Column(name = "joined_at", nullable = false, updatable = false)
     private LocalDateTime joinedAt;
     
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, length = 20)
     @Builder.Default
     private ParticipationStatus status = ParticipationStatus.ACTIVE;
     
     @Column(columnDefinition = "TEXT")
     private String feedback;
     
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "task_id", nullable = false)
-    private Task task;
-    
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
-}
\ No newline at end of file
+    public static Participation of(Task task, User user) {
+        return Participation.builder()
+                .id(new ParticipationId(task.getId(), user.getId()))
+                .task(task)
+                .user(user)
+                .build();
+    }
+}
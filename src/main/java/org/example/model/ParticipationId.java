@@ -0,0 +1,22 @@
+package org.example.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipationId implements Serializable {
+    
+    @Column(name = "task_id")
+    private Long taskId;
+    
+    @Column(name = "user_id")
+    private Long userId;
+}
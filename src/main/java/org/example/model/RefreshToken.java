@@ -0,0 +1,56 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One opaque refresh token, stored as its SHA-256 hash. Every rotation issues a
+ * new token in the same family and marks this one used, so presenting a used
+ * token again shows that it leaked and revokes the whole family.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+    indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+    
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+    
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean revoked = false;
+}
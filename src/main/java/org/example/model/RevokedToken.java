@@ -0,0 +1,27 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Token id (jti) of a JWT that was logged out before it expired. Rows are only
+ * needed until the token itself would have expired.
+ */
+@Entity
+@Table(name = "revoked_tokens",
+    indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+    
+    @Id
+    @Column(length = 36)
+    private String jti;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
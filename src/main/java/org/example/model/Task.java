@@ -4,14 +4,24 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_category_status_start", columnList = "category_id, status, start_date"),
+    @Index(name = "idx_tasks_status_start_id", columnList = "status, start_date, id"),
+    @Index(name = "idx_tasks_start_date_id", columnList = "start_date, id"),
+    @Index(name = "idx_tasks_creator_start_id", columnList = "creator_id, start_date, id"),
+    @Index(name = "idx_tasks_geohash", columnList = "geohash"),
+    @Index(name = "idx_tasks_status_current_participants", columnList = "status, current_participants"),
+    @Index(name = "idx_tasks_status_completed_at", columnList = "status, completed_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +46,19 @@ public class Task {
     @NotBlank(message = "Location is required")
     private String location;
     
+    @Column(name = "latitude")
+    private Double latitude;
+    
+    @Column(name = "longitude")
+    private Double longitude;
+    
+    @Column(name = "geohash", length = 12)
+    private String geohash;
+    
+    /** Set when the location could not be resolved, so startup geocoding skips the task. */
+    @Column(name = "geocode_failed_at")
+    private LocalDateTime geocodeFailedAt;
+    
     @Column(name = "start_date", nullable = false)
     @NotNull(message = "Start date is required")
     @Future(message = "Start date must be in the future")
@@ -50,6 +73,17 @@ public class Task {
     @Max(value = 100, message = "Maximum participants must not exceed 100")
     private Integer maxParticipants;
     
+    /**
+     * Written only by the bulk updates in {@link org.example.repository.TaskRepository},
+     * never by entity flushes, so concurrent joins and leaves cannot overwrite each other.
+     */
+    @Column(name = "current_participants", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer currentParticipants = 0;
+    
+    @Formula("max_participants - current_participants")
+    private Integer freeSeats;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -63,6 +97,9 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "creator_id", nullable = false)
     @NotNull(message = "Creator is required")
@@ -73,20 +110,19 @@ public class Task {
     @NotNull(message = "Category is required")
     private Category category;
     
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(
-        name = "task_participants",
-        joinColumns = @JoinColumn(name = "task_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
-    )
-    @Builder.Default
-    private Set<User> participants = new HashSet<>();
-    
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private Set<TaskImage> images = new HashSet<>();
     
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private Set<Participation> participations = new HashSet<>();
+    
+    public List<User> getParticipants() {
+        return participations.stream().map(Participation::getUser).toList();
+    }
 }
\ No newline at end of file
@@ -11,23 +11,30 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+    uniqueConstraints = {
+        @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+    })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class User {
     
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(unique = true, nullable = false, length = 50)
+    @Column(nullable = false, length = 50)
     @NotBlank(message = "Username is required")
     @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
     private String username;
     
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     private String email;
@@ -79,11 +86,15 @@ public class User {
     @Builder.Default
     private Boolean isActive = true;
     
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "creator", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private Set<Task> createdTasks = new HashSet<>();
     
-    @ManyToMany(mappedBy = "participants", fetch = FetchType.LAZY)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     @Builder.Default
-    private Set<Task> participatingTasks = new HashSet<>();
+    private Set<Participation> participations = new HashSet<>();
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Read model behind the statistics endpoints, one row per user. The counters are
+ * adjusted in the same transaction as the task change that affects them.
+ */
+@Entity
+@Table(name = "user_statistics")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatistics {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+    
+    @Column(name = "created_tasks", nullable = false)
+    @Builder.Default
+    private Long createdTasks = 0L;
+    
+    @Column(name = "completed_tasks", nullable = false)
+    @Builder.Default
+    private Long completedTasks = 0L;
+    
+    @Column(name = "cancelled_tasks", nullable = false)
+    @Builder.Default
+    private Long cancelledTasks = 0L;
+    
+    @Column(name = "participated_tasks", nullable = false)
+    @Builder.Default
+    private Long participatedTasks = 0L;
+    
+    @Column(name = "volunteers_helped", nullable = false)
+    @Builder.Default
+    private Long volunteersHelped = 0L;
+}
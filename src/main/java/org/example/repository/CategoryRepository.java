@@ -1,5 +1,6 @@
 package org.example.repository;
 
+import org.example.dto.CategoryTaskCount;
 import org.example.model.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +24,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     
     @Query("SELECT COUNT(t) FROM Task t WHERE t.category.id = :categoryId")
     Long countTasksByCategoryId(@Param("categoryId") Long categoryId);
+    
+    @Query("SELECT new org.example.dto.CategoryTaskCount(t.category.id, t.status, COUNT(t)) " +
+           "FROM Task t GROUP BY t.category.id, t.status")
+    List<CategoryTaskCount> countTasksGroupedByCategoryAndStatus();
 }
\ No newline at end of file
@@ -1,17 +1,20 @@
 package org.example.repository;
 
+import org.example.dto.VolunteerCompletionCount;
 import org.example.model.Participation;
+import org.example.model.ParticipationId;
 import org.example.model.ParticipationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ParticipationRepository extends JpaRepository<Participation, Long> {
+public interface ParticipationRepository extends JpaRepository<Participation, ParticipationId> {
     
     Optional<Participation> findByTaskIdAndUserId(Long taskId, Long userId);
     
@@ -19,9 +22,17 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
     
     List<Participation> findByUserIdAndStatus(Long userId, ParticipationStatus status);
     
-    @Query("SELECT COUNT(p) FROM Participation p WHERE p.task.id = :taskId AND p.status = 'ACTIVE'")
+    @Query("SELECT COUNT(p) FROM Participation p WHERE p.id.taskId = :taskId AND p.status = 'ACTIVE'")
     Long countActiveParticipantsByTaskId(@Param("taskId") Long taskId);
     
-    @Query("SELECT COUNT(p) FROM Participation p WHERE p.user.id = :userId AND p.status = :status")
+    @Query("SELECT COUNT(p) FROM Participation p WHERE p.id.userId = :userId AND p.status = :status")
     Long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ParticipationStatus status);
-}
\ No newline at end of file
+    
+    @Query("SELECT new org.example.dto.VolunteerCompletionCount(p.id.userId, t.creator.id, " +
+           "extract(year from t.completedAt), extract(month from t.completedAt), COUNT(p)) " +
+           "FROM Participation p JOIN p.task t " +
+           "WHERE t.status = org.example.model.TaskStatus.COMPLETED AND t.completedAt >= :since " +
+           "AND p.status = org.example.model.ParticipationStatus.COMPLETED " +
+           "GROUP BY p.id.userId, t.creator.id, extract(year from t.completedAt), extract(month from t.completedAt)")
+    List<VolunteerCompletionCount> countCompletionsSince(@Param("since") LocalDateTime since);
+}
@@ -1,58 +1,150 @@
 package org.example.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.dto.TaskExportRow;
+import org.example.model.ParticipationStatus;
 import org.example.model.Task;
 import org.example.model.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
     
     @EntityGraph(attributePaths = {"creator", "category"})
     Page<Task> findByStatus(TaskStatus status, Pageable pageable);
     
-    @EntityGraph(attributePaths = {"creator", "category"})
-    Page<Task> findByCreatorId(Long creatorId, Pageable pageable);
-    
     @EntityGraph(attributePaths = {"creator", "category"})
     Page<Task> findByCategoryId(Long categoryId, Pageable pageable);
     
-    @EntityGraph(attributePaths = {"creator", "category", "participants"})
+    @EntityGraph(attributePaths = {"creator", "category"})
     @Override
-    Page<Task> findAll(Pageable pageable);
-    
-    @Query("SELECT t FROM Task t JOIN t.participants p WHERE p.id = :userId")
-    Page<Task> findTasksByParticipantId(@Param("userId") Long userId, Pageable pageable);
-    
-    @Query("SELECT t FROM Task t WHERE " +
-           "(:title IS NULL OR t.title LIKE CONCAT('%', :title, '%')) AND " +
-           "(:location IS NULL OR t.location LIKE CONCAT('%', :location, '%')) AND " +
-           "(:categoryId IS NULL OR t.category.id = :categoryId) AND " +
-           "(:status IS NULL OR t.status = :status) AND " +
-           "(:startDateFrom IS NULL OR t.startDate >= :startDateFrom) AND " +
-           "(:startDateTo IS NULL OR t.startDate <= :startDateTo)")
-    Page<Task> findTasksWithFilters(@Param("title") String title,
-                                   @Param("location") String location,
-                                   @Param("categoryId") Long categoryId,
-                                   @Param("status") TaskStatus status,
-                                   @Param("startDateFrom") LocalDateTime startDateFrom,
-                                   @Param("startDateTo") LocalDateTime startDateTo,
-                                   Pageable pageable);
-    
-    @Query("SELECT COUNT(t.participants) FROM Task t WHERE t.id = :taskId")
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+    
+    /**
+     * Loads the task holding its row lock until commit, so a status read here
+     * cannot be overtaken by a concurrent seat update before this transaction
+     * writes. Paths that also touch the creator's statistics row take this lock
+     * first, in the same order as {@link #claimSeat}, so they cannot deadlock
+     * against a concurrent join.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :taskId")
+    Optional<Task> findByIdForUpdate(@Param("taskId") Long taskId);
+    
+    @Query("SELECT t.currentParticipants FROM Task t WHERE t.id = :taskId")
     Integer countParticipantsByTaskId(@Param("taskId") Long taskId);
     
-    @Query("SELECT CASE WHEN COUNT(tp) > 0 THEN true ELSE false END " +
-           "FROM Task t JOIN t.participants tp WHERE t.id = :taskId AND tp.id = :userId")
+    /**
+     * Takes a seat only while the task is open and not full, flipping it to
+     * IN_PROGRESS when the last seat goes. The row lock held by the update
+     * serialises concurrent joins, and the database re-checks the condition
+     * after the wait, so a task can never be overbooked. Returns 0 when no seat
+     * was taken.
+     */
+    default int claimSeat(Long taskId) {
+        return claimSeats(taskId, 1);
+    }
+    
+    /**
+     * All-or-nothing variant of {@link #claimSeat} for a group of volunteers.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.currentParticipants = t.currentParticipants + :seats, " +
+           "t.status = CASE WHEN t.currentParticipants + :seats >= t.maxParticipants " +
+           "THEN org.example.model.TaskStatus.IN_PROGRESS ELSE t.status END, " +
+           "t.updatedAt = LOCAL DATETIME " +
+           "WHERE t.id = :taskId AND t.status = org.example.model.TaskStatus.OPEN " +
+           "AND t.currentParticipants + :seats <= t.maxParticipants")
+    int claimSeats(@Param("taskId") Long taskId, @Param("seats") int seats);
+    
+    default int releaseSeat(Long taskId) {
+        return releaseSeats(taskId, 1);
+    }
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.currentParticipants = t.currentParticipants - :seats, " +
+           "t.status = CASE WHEN t.status = org.example.model.TaskStatus.IN_PROGRESS " +
+           "THEN org.example.model.TaskStatus.OPEN ELSE t.status END, " +
+           "t.updatedAt = LOCAL DATETIME " +
+           "WHERE t.id = :taskId AND t.currentParticipants >= :seats")
+    int releaseSeats(@Param("taskId") Long taskId, @Param("seats") int seats);
+    
+    @Modifying
+    @Query(value = "INSERT INTO task_participants (task_id, user_id, status, joined_at) " +
+                   "VALUES (:taskId, :userId, 'ACTIVE', CURRENT_TIMESTAMP)", nativeQuery = true)
+    int addParticipant(@Param("taskId") Long taskId, @Param("userId") Long userId);
+    
+    @Modifying
+    @Query(value = "INSERT INTO task_participants (task_id, user_id, status, joined_at) " +
+                   "SELECT :taskId, u.id, 'ACTIVE', CURRENT_TIMESTAMP FROM users u WHERE u.id IN (:userIds)",
+           nativeQuery = true)
+    int addParticipants(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
+    
+    @Modifying
+    @Query(value = "DELETE FROM task_participants WHERE task_id = :taskId AND user_id = :userId", nativeQuery = true)
+    int removeParticipant(@Param("taskId") Long taskId, @Param("userId") Long userId);
+    
+    @Modifying
+    @Query(value = "DELETE FROM task_participants WHERE task_id = :taskId AND user_id IN (:userIds)", nativeQuery = true)
+    int removeParticipants(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
+    
+    /**
+     * Carries the membership outcome over when a task is completed or cancelled.
+     */
+    @Modifying
+    @Query("UPDATE Participation p SET p.status = :status " +
+           "WHERE p.id.taskId = :taskId AND p.status = org.example.model.ParticipationStatus.ACTIVE")
+    int updateParticipationStatus(@Param("taskId") Long taskId, @Param("status") ParticipationStatus status);
+    
+    @Query("SELECT p.id.userId FROM Participation p WHERE p.id.taskId = :taskId AND p.id.userId IN :userIds")
+    List<Long> findParticipantIds(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
+    
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END " +
+           "FROM Participation p WHERE p.id.taskId = :taskId AND p.id.userId = :userId")
     boolean isUserParticipant(@Param("taskId") Long taskId, @Param("userId") Long userId);
     
+    /**
+     * Forward-only export cursor. Rows are DTOs, so nothing accumulates in the
+     * persistence context; the caller must consume the stream inside a transaction.
+     */
+    @Query("SELECT new org.example.dto.TaskExportRow(t.id, t.title, t.description, t.location, " +
+           "t.latitude, t.longitude, t.startDate, t.endDate, t.status, t.maxParticipants, " +
+           "t.currentParticipants, c.name, u.username, t.createdAt, t.updatedAt) " +
+           "FROM Task t JOIN t.category c JOIN t.creator u ORDER BY t.id")
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<TaskExportRow> streamExportRows();
+    
+    /**
+     * Tasks without coordinates that were never tried against the gazetteer, in id
+     * order so the caller can page through them with the last id it has seen.
+     */
+    @Query("SELECT t FROM Task t WHERE t.geohash IS NULL AND t.geocodeFailedAt IS NULL " +
+           "AND t.id > :afterId ORDER BY t.id")
+    List<Task> findNotGeocodedAfter(@Param("afterId") long afterId, Pageable pageable);
+    
     List<Task> findByStartDateBeforeAndStatus(LocalDateTime dateTime, TaskStatus status);
 }
\ No newline at end of file
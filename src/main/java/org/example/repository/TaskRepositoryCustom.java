@@ -0,0 +1,44 @@
+package org.example.repository;
+
+import org.example.dto.TaskListItemResponse;
+import org.example.geo.TaskLocation;
+import org.example.model.Task;
+import org.example.util.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Page of tasks with creator, category, participants and images initialised.
+     * Ids are paged in the database first, so collection fetches never defeat
+     * LIMIT/OFFSET.
+     */
+    default Page<Task> findTaskPage(Specification<Task> spec, Pageable pageable) {
+        return findTaskPage(spec, pageable, FieldSelection.ALL);
+    }
+
+    /**
+     * As {@link #findTaskPage(Specification, Pageable)}, skipping the collections
+     * the selection does not ask for.
+     */
+    Page<Task> findTaskPage(Specification<Task> spec, Pageable pageable, FieldSelection fields);
+
+    List<Task> findTasks(Specification<Task> spec, Sort sort, int limit, FieldSelection fields);
+
+    List<Task> findAllWithCollections(List<Long> ids, FieldSelection fields);
+
+    List<TaskLocation> findLocations(Specification<Task> spec);
+
+    /**
+     * List items without a total: one extra row is read to tell whether a next slice exists.
+     */
+    Slice<TaskListItemResponse> findListItemSlice(Specification<Task> spec, Pageable pageable);
+
+    List<TaskListItemResponse> findListItems(Specification<Task> spec, Sort sort, int limit);
+}
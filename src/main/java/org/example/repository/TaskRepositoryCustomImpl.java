@@ -0,0 +1,235 @@
+package org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.example.dto.TaskListItemResponse;
+import org.example.geo.TaskLocation;
+import org.example.model.Category;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.model.User;
+import org.example.util.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final int SHORT_LOCATION_LENGTH = 80;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> findTaskPage(Specification<Task> spec, Pageable pageable, FieldSelection fields) {
+        TypedQuery<Long> query = idQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize() + 1);
+        }
+        List<Long> ids = query.getResultList();
+
+        // The extra id tells whether a later page exists; only then is the total worth a COUNT
+        boolean hasNext = pageable.isPaged() && ids.size() > pageable.getPageSize();
+        List<Long> pageIds = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+        List<Task> tasks = findAllWithCollections(pageIds, fields);
+        return PageableExecutionUtils.getPage(tasks, pageable,
+                () -> hasNext ? count(spec) : pageable.getOffset() + pageIds.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> findTasks(Specification<Task> spec, Sort sort, int limit, FieldSelection fields) {
+        return findAllWithCollections(idQuery(spec, sort).setMaxResults(limit).getResultList(), fields);
+    }
+
+    /**
+     * Loads the tasks with a fixed number of set-based queries regardless of how
+     * many ids are passed: one for the rows with creator and category, one per
+     * collection. The collection queries initialise participants and images in
+     * place on the instances already in the persistence context; fetching both
+     * collections in one query would multiply the rows.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> findAllWithCollections(List<Long> ids, FieldSelection fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> tasks = entityManager.createQuery("""
+                        SELECT t FROM Task t
+                        JOIN FETCH t.creator
+                        JOIN FETCH t.category
+                        WHERE t.id IN :ids
+                        """, Task.class)
+                .setParameter("ids", ids)
+                .getResultList().stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        if (fields.includes("participants")) {
+            entityManager.createQuery("""
+                            SELECT DISTINCT t FROM Task t
+                            LEFT JOIN FETCH t.participations p
+                            LEFT JOIN FETCH p.user
+                            WHERE t.id IN :ids
+                            """, Task.class)
+                    .setParameter("ids", ids)
+                    .getResultList();
+        }
+        if (fields.includes("imageUrls")) {
+            entityManager.createQuery("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.images WHERE t.id IN :ids", Task.class)
+                    .setParameter("ids", ids)
+                    .getResultList();
+        }
+
+        return ids.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<TaskLocation> findLocations(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskLocation> query = cb.createQuery(TaskLocation.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.construct(TaskLocation.class, root.get("id"), root.get("latitude"), root.get("longitude")))
+                .where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Slice<TaskListItemResponse> findListItemSlice(Specification<Task> spec, Pageable pageable) {
+        TypedQuery<Tuple> query = listItemQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize() + 1);
+        }
+        List<TaskListItemResponse> content = query.getResultList().stream()
+                .map(this::toListItem)
+                .toList();
+
+        boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public List<TaskListItemResponse> findListItems(Specification<Task> spec, Sort sort, int limit) {
+        return listItemQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(this::toListItem)
+                .toList();
+    }
+
+    /**
+     * Selects only the list columns: category and creator are plain joins,
+     * the participant count is read from the current_participants column and
+     * the location is cut short in the database, so no entity or collection is
+     * ever hydrated.
+     */
+    private TypedQuery<Tuple> listItemQuery(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Join<Task, Category> category = root.join("category");
+        Join<Task, User> creator = root.join("creator");
+
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("title").alias("title"),
+                cb.substring(root.get("location"), 1, SHORT_LOCATION_LENGTH + 1).alias("location"),
+                root.get("startDate").alias("startDate"),
+                root.get("endDate").alias("endDate"),
+                root.get("status").alias("status"),
+                category.get("name").alias("categoryName"),
+                creator.get("firstName").alias("creatorFirstName"),
+                creator.get("lastName").alias("creatorLastName"),
+                creator.get("username").alias("creatorUsername"),
+                root.get("currentParticipants").alias("currentParticipants"),
+                root.get("maxParticipants").alias("maxParticipants")
+        );
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        query.orderBy(QueryUtils.toOrders(totalOrder(sort), root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private TypedQuery<Long> idQuery(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.get("id"));
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        query.orderBy(QueryUtils.toOrders(totalOrder(sort), root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Trailing id keeps the order total, so rows cannot repeat or vanish between pages.
+     */
+    private static Sort totalOrder(Sort sort) {
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private TaskListItemResponse toListItem(Tuple row) {
+        String location = row.get("location", String.class);
+        if (location != null && location.length() > SHORT_LOCATION_LENGTH) {
+            location = location.substring(0, SHORT_LOCATION_LENGTH - 1).stripTrailing() + "…";
+        }
+        TaskStatus status = row.get("status", TaskStatus.class);
+        return TaskListItemResponse.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .location(location)
+                .startDate(row.get("startDate", LocalDateTime.class))
+                .endDate(row.get("endDate", LocalDateTime.class))
+                .status(status != null ? status.name() : null)
+                .categoryName(row.get("categoryName", String.class))
+                .creatorName(displayName(row))
+                .currentParticipants(row.get("currentParticipants", Number.class).intValue())
+                .maxParticipants(row.get("maxParticipants", Integer.class))
+                .build();
+    }
+
+    private String displayName(Tuple row) {
+        String firstName = row.get("creatorFirstName", String.class);
+        String lastName = row.get("creatorLastName", String.class);
+        String name = ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+        return name.isEmpty() ? row.get("creatorUsername", String.class) : name;
+    }
+}
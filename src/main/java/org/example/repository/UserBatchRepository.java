@@ -0,0 +1,83 @@
+package org.example.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.model.User;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bulk user inserts over JDBC batches. Going through JPA would flush one
+ * INSERT per user, because identity ids disable Hibernate's insert batching.
+ * The duplicate lookups run here too: outside a transaction plain JDBC returns
+ * its connection at once, while the request's open JPA session would keep it
+ * through the password hashing that follows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (username, email, password, first_name, last_name, user_type,
+                               phone, bio, address, date_joined, last_updated, is_active)
+            VALUES (:username, :email, :password, :firstName, :lastName, :userType,
+                    :phone, :bio, :address, :now, :now, TRUE)
+            """;
+
+    // Same zeroed row UserStatisticsService.initialize saves for a single registration
+    private static final String INSERT_STATISTICS_SQL = """
+            INSERT INTO user_statistics (user_id, created_tasks, completed_tasks, cancelled_tasks,
+                                         participated_tasks, volunteers_helped)
+            SELECT u.id, 0, 0, 0, 0, 0 FROM users u WHERE u.username IN (:usernames)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<String> findExistingUsernames(Collection<String> usernames) {
+        return jdbcTemplate.queryForList("SELECT username FROM users WHERE username IN (:usernames)",
+                new MapSqlParameterSource("usernames", usernames), String.class);
+    }
+
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return jdbcTemplate.queryForList("SELECT email FROM users WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", emails), String.class);
+    }
+
+    /**
+     * Inserts the users and their statistics rows in one transaction; a unique
+     * constraint violation rolls back the whole batch.
+     */
+    @Transactional
+    public int insertAll(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < users.size(); from += BATCH_SIZE) {
+            List<User> chunk = users.subList(from, Math.min(from + BATCH_SIZE, users.size()));
+            SqlParameterSource[] rows = chunk.stream()
+                    .map(user -> new MapSqlParameterSource()
+                            .addValue("username", user.getUsername())
+                            .addValue("email", user.getEmail())
+                            .addValue("password", user.getPassword())
+                            .addValue("firstName", user.getFirstName())
+                            .addValue("lastName", user.getLastName())
+                            .addValue("userType", user.getUserType().name())
+                            .addValue("phone", user.getPhone())
+                            .addValue("bio", user.getBio())
+                            .addValue("address", user.getAddress())
+                            .addValue("now", now))
+                    .toArray(SqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows);
+            jdbcTemplate.update(INSERT_STATISTICS_SQL, new MapSqlParameterSource("usernames",
+                    chunk.stream().map(User::getUsername).toList()));
+        }
+        return users.size();
+    }
+}
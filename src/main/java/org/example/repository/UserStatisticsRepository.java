@@ -0,0 +1,94 @@
+package org.example.repository;
+
+import org.example.model.ParticipationStatus;
+import org.example.model.UserStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface UserStatisticsRepository extends JpaRepository<UserStatistics, Long> {
+    
+    @Query("SELECT s FROM UserStatistics s JOIN FETCH s.user WHERE s.userId = :userId")
+    Optional<UserStatistics> findWithUserByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT s FROM UserStatistics s JOIN FETCH s.user u WHERE u.username = :username")
+    Optional<UserStatistics> findWithUserByUsername(@Param("username") String username);
+    
+    /**
+     * Creates the zeroed row unless it exists, so concurrent first reads of a
+     * user do not collide on the primary key.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_statistics (user_id, created_tasks, completed_tasks, cancelled_tasks,
+                                         participated_tasks, volunteers_helped)
+            VALUES (:userId, 0, 0, 0, 0, 0)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+    
+    /**
+     * Locks one user's row until the transaction ends; empty when the user has
+     * no statistics row yet.
+     */
+    @Query(value = "SELECT user_id FROM user_statistics WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockRow(@Param("userId") Long userId);
+    
+    @Modifying
+    @Query("UPDATE UserStatistics s SET s.createdTasks = s.createdTasks + :created, " +
+           "s.completedTasks = s.completedTasks + :completed, " +
+           "s.cancelledTasks = s.cancelledTasks + :cancelled WHERE s.userId = :userId")
+    int addCreatorCounts(@Param("userId") Long userId, @Param("created") long created,
+                         @Param("completed") long completed, @Param("cancelled") long cancelled);
+    
+    @Modifying
+    @Query("UPDATE UserStatistics s SET s.volunteersHelped = s.volunteersHelped + :delta WHERE s.userId = :userId")
+    int addVolunteersHelped(@Param("userId") Long userId, @Param("delta") long delta);
+    
+    @Modifying
+    @Query("UPDATE UserStatistics s SET s.participatedTasks = s.participatedTasks + :delta " +
+           "WHERE s.userId IN (SELECT p.id.userId FROM Participation p " +
+           "WHERE p.id.taskId = :taskId AND p.status = :status)")
+    int addParticipatedTasks(@Param("taskId") Long taskId, @Param("status") ParticipationStatus status,
+                             @Param("delta") long delta);
+    
+    /**
+     * Volunteers among the given ones who take part in no other task of the creator,
+     * i.e. those whose join or leave changes the creator's volunteers helped.
+     */
+    @Query("SELECT COUNT(u) FROM User u WHERE u.id IN :userIds AND NOT EXISTS (" +
+           "SELECT o FROM Participation o WHERE o.id.userId = u.id " +
+           "AND o.task.creator.id = :creatorId AND o.id.taskId <> :taskId)")
+    long countVolunteersOnlyIn(@Param("creatorId") Long creatorId, @Param("taskId") Long taskId,
+                               @Param("userIds") Collection<Long> userIds);
+    
+    @Query("SELECT COUNT(p) FROM Participation p WHERE p.id.taskId = :taskId AND NOT EXISTS (" +
+           "SELECT o FROM Participation o WHERE o.id.userId = p.id.userId " +
+           "AND o.task.creator.id = :creatorId AND o.id.taskId <> :taskId)")
+    long countParticipantsOnlyIn(@Param("creatorId") Long creatorId, @Param("taskId") Long taskId);
+    
+    @Modifying
+    @Query(value = "DELETE FROM user_statistics", nativeQuery = true)
+    int deleteAllRows();
+    
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_statistics (user_id, created_tasks, completed_tasks, cancelled_tasks,
+                                         participated_tasks, volunteers_helped)
+            SELECT u.id,
+                   (SELECT COUNT(*) FROM tasks t WHERE t.creator_id = u.id),
+                   (SELECT COUNT(*) FROM tasks t WHERE t.creator_id = u.id AND t.status = 'COMPLETED'),
+                   (SELECT COUNT(*) FROM tasks t WHERE t.creator_id = u.id AND t.status = 'CANCELLED'),
+                   (SELECT COUNT(*) FROM task_participants tp WHERE tp.user_id = u.id AND tp.status = 'COMPLETED'),
+                   (SELECT COUNT(DISTINCT tp.user_id) FROM task_participants tp
+                    JOIN tasks t ON t.id = tp.task_id WHERE t.creator_id = u.id)
+            FROM users u
+            """, nativeQuery = true)
+    int insertFromSource();
+}
@@ -0,0 +1,32 @@
+package org.example.repository;
+
+import org.example.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+    
+    boolean existsByTaskIdAndUserId(Long taskId, Long userId);
+    
+    Optional<WaitlistEntry> findFirstByTaskIdOrderByIdAsc(Long taskId);
+    
+    long countByTaskIdAndIdLessThanEqual(Long taskId, Long id);
+    
+    @Query("SELECT w.task.id, w.user.id FROM WaitlistEntry w ORDER BY w.task.id, w.id")
+    List<Object[]> findAllQueued();
+    
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.task.id = :taskId AND w.user.id = :userId")
+    int deleteEntry(@Param("taskId") Long taskId, @Param("userId") Long userId);
+    
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.task.id = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+}
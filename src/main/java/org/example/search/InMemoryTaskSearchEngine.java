@@ -0,0 +1,202 @@
+package org.example.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.model.Task;
+import org.example.repository.TaskRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+
+/**
+ * Inverted index over task title and description for databases without
+ * full-text support (the H2 test profile). Mirrors the PostgreSQL engine:
+ * prefix matching, all terms required, title matches weigh more.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory")
+public class InMemoryTaskSearchEngine implements TaskSearchEngine {
+
+    private static final double TITLE_WEIGHT = 1.0;
+    private static final double DESCRIPTION_WEIGHT = 0.4;
+    private static final int HEADLINE_WORDS = 25;
+
+    private final TaskRepository taskRepository;
+
+    private final TreeMap<String, Map<Long, Double>> postings = new TreeMap<>();
+    private final Map<Long, IndexedTask> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Task> tasks = taskRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            tasks.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} tasks for in-memory full-text search", tasks.size());
+    }
+
+    @Override
+    public Page<TaskSearchHit> search(List<String> terms, Pageable pageable) {
+        List<TaskSearchHit> ranked = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = scoreTerm(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((taskId, score) -> score + termScores.get(taskId));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            if (scores != null) {
+                scores.forEach((taskId, score) ->
+                        ranked.add(new TaskSearchHit(taskId, score, null)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        ranked.sort(Comparator.comparingDouble(TaskSearchHit::rank).reversed()
+                .thenComparing(TaskSearchHit::taskId));
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<TaskSearchHit> page = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (TaskSearchHit hit : ranked.subList(from, to)) {
+                IndexedTask document = documents.get(hit.taskId());
+                String headline = document != null ? headline(document.text(), terms) : null;
+                page.add(new TaskSearchHit(hit.taskId(), hit.rank(), headline));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new PageImpl<>(page, pageable, ranked.size());
+    }
+
+    @Override
+    public void index(Task task) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(task.getId());
+            addDocument(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String term) {
+        Map<Long, Double> scores = new HashMap<>();
+        Map<String, Map<Long, Double>> matches = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+        for (Map<Long, Double> termPostings : matches.values()) {
+            double idf = Math.log(1.0 + (double) documents.size() / termPostings.size());
+            termPostings.forEach((taskId, weight) -> scores.merge(taskId, weight * idf, Double::sum));
+        }
+        return scores;
+    }
+
+    private void addDocument(Task task) {
+        Map<String, Double> weights = new HashMap<>();
+        SearchTokenizer.tokenize(task.getTitle()).forEach(token -> weights.merge(token, TITLE_WEIGHT, Double::sum));
+        SearchTokenizer.tokenize(task.getDescription()).forEach(token -> weights.merge(token, DESCRIPTION_WEIGHT, Double::sum));
+
+        weights.forEach((token, weight) ->
+                postings.computeIfAbsent(token, key -> new HashMap<>()).put(task.getId(), weight));
+        documents.put(task.getId(), new IndexedTask(task.getTitle() + " " + task.getDescription(), weights.keySet()));
+    }
+
+    private void removeDocument(Long taskId) {
+        IndexedTask document = documents.remove(taskId);
+        if (document == null) {
+            return;
+        }
+        for (String token : document.tokens()) {
+            Map<Long, Double> termPostings = postings.get(token);
+            if (termPostings != null) {
+                termPostings.remove(taskId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private String headline(String text, List<String> terms) {
+        List<int[]> words = new ArrayList<>();
+        Set<Integer> hits = new HashSet<>();
+        Matcher matcher = SearchTokenizer.WORD.matcher(text);
+        while (matcher.find()) {
+            String token = SearchTokenizer.normalize(matcher.group());
+            if (terms.stream().anyMatch(token::startsWith)) {
+                hits.add(words.size());
+            }
+            words.add(new int[]{matcher.start(), matcher.end()});
+        }
+        if (words.isEmpty()) {
+            return HtmlUtils.htmlEscape(text);
+        }
+
+        int firstHit = hits.stream().min(Integer::compareTo).orElse(0);
+        int start = Math.max(0, firstHit - HEADLINE_WORDS / 3);
+        int end = Math.min(words.size(), start + HEADLINE_WORDS);
+
+        StringBuilder headline = new StringBuilder();
+        int cursor = words.get(start)[0];
+        for (int i = start; i < end; i++) {
+            int[] word = words.get(i);
+            headline.append(HtmlUtils.htmlEscape(text.substring(cursor, word[0])));
+            String escaped = HtmlUtils.htmlEscape(text.substring(word[0], word[1]));
+            if (hits.contains(i)) {
+                headline.append("<b>").append(escaped).append("</b>");
+            } else {
+                headline.append(escaped);
+            }
+            cursor = word[1];
+        }
+        return headline.toString();
+    }
+
+    private record IndexedTask(String text, Set<String> tokens) {
+    }
+}
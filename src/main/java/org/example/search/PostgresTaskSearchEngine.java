@@ -0,0 +1,78 @@
+package org.example.search;
+
+import lombok.RequiredArgsConstructor;
+import org.example.model.Task;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over the generated tasks.search_vector column (GIN indexed).
+ * PostgreSQL ships no Ukrainian stemmer, so every term is matched as a prefix
+ * to cover inflected word forms. The headline text is HTML-escaped before
+ * ts_headline adds its markers, so only the markers are markup.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresTaskSearchEngine implements TaskSearchEngine {
+
+    private static final String SEARCH_SQL = """
+            SELECT ranked.id, ranked.rank,
+                   ts_headline('simple',
+                               replace(replace(replace(t.title || ' ' || t.description,
+                                   '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                               ranked.query,
+                               'StartSel=<b>, StopSel=</b>, MaxWords=25, MinWords=8, MaxFragments=2') AS headline
+            FROM (
+                SELECT t.id, ts_rank_cd(t.search_vector, q.query) AS rank, q.query
+                FROM tasks t, to_tsquery('simple', :query) AS q(query)
+                WHERE t.search_vector @@ q.query
+                ORDER BY rank DESC, t.id
+                LIMIT :limit OFFSET :offset
+            ) ranked
+            JOIN tasks t ON t.id = ranked.id
+            ORDER BY ranked.rank DESC, ranked.id
+            """;
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM tasks t WHERE t.search_vector @@ to_tsquery('simple', :query)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<TaskSearchHit> search(List<String> terms, Pageable pageable) {
+        // Terms only contain letters and digits, so they are safe to splice into tsquery syntax
+        String tsQuery = terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", tsQuery)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        List<TaskSearchHit> hits = jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) ->
+                new TaskSearchHit(rs.getLong("id"), rs.getDouble("rank"), rs.getString("headline")));
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL, params, Long.class);
+
+        return new PageImpl<>(hits, pageable, total != null ? total : 0L);
+    }
+
+    @Override
+    public void index(Task task) {
+        // search_vector is a generated column, PostgreSQL keeps it current
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        // Row deletion removes the GIN entries
+    }
+}
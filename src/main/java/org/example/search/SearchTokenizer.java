@@ -0,0 +1,38 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class SearchTokenizer {
+
+    static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            tokens.add(normalize(matcher.group()));
+        }
+        return tokens;
+    }
+
+    public static List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        return new ArrayList<>(terms);
+    }
+
+    static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
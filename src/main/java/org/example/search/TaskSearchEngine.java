@@ -0,0 +1,19 @@
+package org.example.search;
+
+import org.example.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface TaskSearchEngine {
+
+    /**
+     * Ranked matches for the given query terms, best match first.
+     */
+    Page<TaskSearchHit> search(List<String> terms, Pageable pageable);
+
+    void index(Task task);
+
+    void remove(Long taskId);
+}
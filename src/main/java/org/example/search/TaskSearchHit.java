@@ -0,0 +1,4 @@
+package org.example.search;
+
+public record TaskSearchHit(Long taskId, double rank, String headline) {
+}
@@ -0,0 +1,59 @@
+package org.example.security;
+
+import io.jsonwebtoken.Claims;
+import org.example.service.UserAccountChangedEvent;
+import org.example.util.ExpiringCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+/**
+ * When each user's account last changed, remembered for one access-token
+ * lifetime. Access tokens carry the caller's id and role and are not checked
+ * against the database, so a token issued before the change is refused rather
+ * than keeping the old access until it expires. Like the revocation filters,
+ * this lives in process memory.
+ */
+@Component
+public class AccountChangeTracker {
+
+    private static final int MAX_TRACKED_USERS = 10_000;
+
+    private final ExpiringCache<String, Instant> changes;
+    private final Clock clock;
+
+    @Autowired
+    public AccountChangeTracker(@Value("${jwt.expiration}") long jwtExpirationMs) {
+        this(Duration.ofMillis(jwtExpirationMs), Clock.systemUTC());
+    }
+
+    AccountChangeTracker(Duration accessTokenLifetime, Clock clock) {
+        this.changes = new ExpiringCache<>(accessTokenLifetime, MAX_TRACKED_USERS, clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Tokens carry iat in whole seconds, so the change time is cut to the second:
+     * a token issued in the same second as the change is still accepted.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        changes.put(event.username(), clock.instant().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public boolean isIssuedBeforeChange(Claims claims) {
+        Instant changedAt = changes.getIfPresent(claims.getSubject());
+        if (changedAt == null) {
+            return false;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || issuedAt.toInstant().isBefore(changedAt);
+    }
+}
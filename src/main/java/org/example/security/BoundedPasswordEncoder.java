@@ -0,0 +1,42 @@
+package org.example.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Runs the delegate's hashing on {@link PasswordHashingExecutor}, so both
+ * registration and the authentication manager's password check share its limit.
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.encode(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Hashes many passwords in parallel, for bulk onboarding.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        return executor.encodeAll(rawPasswords.stream()
+                .<Supplier<String>>map(rawPassword -> () -> delegate.encode(rawPassword))
+                .toList());
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.matches(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
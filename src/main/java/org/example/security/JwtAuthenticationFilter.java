@@ -1,5 +1,6 @@
 package org.example.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,13 +10,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -23,7 +24,9 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationStore revocationStore;
+    private final AccountChangeTracker accountChangeTracker;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -35,7 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         log.debug("Processing request: {} {}", httpMethod, requestPath);
         
-        if (isPublicEndpoint(requestPath, httpMethod)) {
+        if (isPublicEndpoint(requestPath, httpMethod) && !isAuthenticatedTaskRead(request)) {
             log.debug("Skipping JWT processing for public endpoint: {} {}", httpMethod, requestPath);
             filterChain.doFilter(request, response);
             return;
@@ -45,13 +48,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt)) {
-                if (tokenProvider.validateToken(jwt)) {
-                    String username = tokenProvider.getUsernameFromToken(jwt);
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                Optional<Claims> claims = tokenProvider.verify(jwt)
+                        .filter(verified -> !revocationStore.isRevoked(verified))
+                        .filter(verified -> !accountChangeTracker.isIssuedBeforeChange(verified));
+                if (claims.isPresent()) {
+                    String username = claims.get().getSubject();
+                    // Legacy tokens without id and role claims still resolve through the cache
+                    UserDetails userDetails = tokenProvider.getPrincipal(claims.get()).orElse(null);
+                    if (userDetails == null) {
+                        userDetails = principalCache.get(username);
+                    }
+                    if (userDetails.isEnabled()) {
+                        UsernamePasswordAuthenticationToken authentication = 
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    } else {
+                        log.debug("Rejecting token of deactivated user {}", username);
+                        SecurityContextHolder.clearContext();
+                    }
                 } else {
                     SecurityContextHolder.clearContext();
                 }
@@ -72,6 +87,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
+    /**
+     * Task reads are public, but some of them (my-tasks, waitlist position) need
+     * the caller, so a bearer token on a task GET is still processed.
+     */
+    private boolean isAuthenticatedTaskRead(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/api/tasks") && getJwtFromRequest(request) != null;
+    }
+
     private boolean isPublicEndpoint(String requestPath, String httpMethod) {
         
         if (requestPath.startsWith("/api/auth/")) {
@@ -3,86 +3,142 @@ package org.example.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.example.model.User;
+import org.example.util.ExpiringCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    private static final Duration VERIFIED_TOKEN_TTL = Duration.ofMinutes(5);
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+
     private final SecretKey key;
     private final long jwtExpirationMs;
+    private final JwtParser parser;
+    private final ExpiringCache<String, Claims> verifiedTokens = new ExpiringCache<>(VERIFIED_TOKEN_TTL, MAX_VERIFIED_TOKENS);
 
     public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
                            @Value("${jwt.expiration}") long jwtExpirationMs) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
         this.jwtExpirationMs = jwtExpirationMs;
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationMs);
+        return generateToken((UserDetailsImpl) authentication.getPrincipal());
+    }
 
-        return Jwts.builder()
-                .subject(userPrincipal.getUsername())
-                .issuedAt(new Date())
-                .expiration(expiryDate)
-                .signWith(key)
-                .compact();
+    public String generateToken(User user) {
+        return generateToken(UserDetailsImpl.build(user));
     }
 
-    public String generateToken(String username) {
+    private String generateToken(UserDetailsImpl principal) {
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationMs);
 
         return Jwts.builder()
-                .subject(username)
+                .id(UUID.randomUUID().toString())
+                .subject(principal.getUsername())
+                .claim(USER_ID_CLAIM, principal.getId())
+                .claim(ROLE_CLAIM, principal.getRole())
                 .issuedAt(new Date())
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+    /**
+     * Rebuilds the caller from a verified access token. Access tokens live only
+     * minutes, so the id and role they carry are trusted without reloading the
+     * user; {@link AccountChangeTracker} refuses tokens issued before an account
+     * change. Tokens issued before these claims existed yield empty.
+     */
+    public Optional<UserDetailsImpl> getPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new UserDetailsImpl(userId.longValue(), claims.getSubject(), null, null,
+                List.of(new SimpleGrantedAuthority(UserDetailsImpl.ROLE_PREFIX + role)), true));
     }
 
-    public boolean validateToken(String authToken) {
+    /**
+     * Verifies the signature and expiry once and returns the claims. Tokens that
+     * passed recently are remembered by digest until the earlier of their expiry
+     * and the cache TTL, so repeated requests with one token skip the HMAC.
+     */
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.getExpiration().after(new Date())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
+
         try {
-            Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(authToken);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(digest, claims);
+            return Optional.of(claims);
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
             log.error("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token");
+        } catch (JwtException ex) {
+            log.error("JWT token failed verification");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public String getUsernameFromToken(String token) {
+        return verify(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
+
+    public boolean validateToken(String authToken) {
+        return verify(authToken).isPresent();
     }
     
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.getExpiration();
+        return verify(token)
+                .map(Claims::getExpiration)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,143 @@
+package org.example.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Small fixed pool for password hashing. BCrypt is deliberately slow, so a
+ * login spike would otherwise occupy a core per request thread and starve
+ * cheap endpoints; here at most {@code threads} hashes run at once and, once
+ * {@code queue-capacity} callers are waiting, new ones are turned away with 503.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${app.security.hashing.threads:0}") int threads,
+                                   @Value("${app.security.hashing.queue-capacity:32}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("Password hashing requests refused because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently running")
+                .register(meterRegistry);
+        log.info("Password hashing limited to {} threads with a queue of {}", poolSize, queueCapacity);
+    }
+
+    public String encode(Supplier<String> hashing) {
+        return execute(encodeTimer, hashing);
+    }
+
+    public boolean matches(Supplier<Boolean> hashing) {
+        return execute(matchesTimer, hashing);
+    }
+
+    /**
+     * Hashes a batch in parallel on the same pool. At most one task per thread is
+     * queued at a time, so interactive logins keep finding free queue slots.
+     */
+    public List<String> encodeAll(List<Supplier<String>> hashings) {
+        Semaphore inFlight = new Semaphore(executor.getCorePoolSize());
+        List<Future<String>> futures = new ArrayList<>(hashings.size());
+        try {
+            for (Supplier<String> hashing : hashings) {
+                inFlight.acquire();
+                futures.add(submit(() -> {
+                    try {
+                        return encodeTimer.record(hashing);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(await(future));
+            }
+            return hashes;
+        } catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (RuntimeException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw ex;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> hashing) {
+        return await(submit(() -> timer.record(hashing)));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please try again shortly");
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("Time spent hashing passwords, excluding the queue wait")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.security;
+
+import org.example.service.UserAccountChangedEvent;
+import org.example.util.ExpiringCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Authenticated principals by username, so steady-state requests resolve the
+ * caller without a database round trip. Account changes evict after commit;
+ * anything else is picked up when the entry expires.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final int MAX_PRINCIPALS = 10_000;
+
+    private final UserDetailsService userDetailsService;
+    private final ExpiringCache<String, UserDetails> principals;
+
+    public PrincipalCache(UserDetailsService userDetailsService,
+                          @Value("${app.security.principal-cache-ttl:60s}") Duration ttl) {
+        this.userDetailsService = userDetailsService;
+        this.principals = new ExpiringCache<>(ttl, MAX_PRINCIPALS);
+    }
+
+    public UserDetails get(String username) {
+        return principals.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    public void evict(String username) {
+        principals.invalidate(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.username());
+    }
+}
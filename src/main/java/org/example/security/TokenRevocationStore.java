@@ -0,0 +1,111 @@
+package org.example.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.model.RevokedToken;
+import org.example.repository.RevokedTokenRepository;
+import org.example.util.BloomFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Logged-out tokens. revoked_tokens is authoritative; in front of it sits one
+ * Bloom filter per hour of token expiry, so a token that was never revoked is
+ * cleared in memory and only a possible hit costs a primary-key lookup. A whole
+ * bucket is dropped once its hour has passed, since every token in it expired.
+ * <p>
+ * The filters live in process memory and are only loaded from the table on
+ * startup, so a logout is enforced by the instance that handled it and not by
+ * its peers. The API must therefore run as a single instance; scaling out
+ * needs the revocations shared, e.g. broadcast to every instance.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+    private static final int EXPECTED_REVOCATIONS_PER_BUCKET = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final ConcurrentNavigableMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<RevokedToken> active = revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now());
+        buckets.clear();
+        active.forEach(token -> bucketFor(toInstant(token.getExpiresAt())).add(token.getJti()));
+        log.info("Loaded {} revoked tokens", active.size());
+    }
+
+    @Transactional
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (jti == null || expiration == null || !expiration.after(new Date())) {
+            return;
+        }
+        // Filter first: a check racing with this commit may hit the table, never miss it
+        bucketFor(expiration.toInstant()).add(jti);
+        if (!revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(new RevokedToken(jti, toLocalDateTime(expiration.toInstant())));
+        }
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (jti == null || expiration == null) {
+            return false;
+        }
+        BloomFilter filter = buckets.get(bucketOf(expiration.toInstant()));
+        if (filter == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(jti);
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation-purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpired() {
+        long currentBucket = bucketOf(Instant.now());
+        buckets.headMap(currentBucket).clear();
+        int purged = revokedTokenRepository.deleteExpiredBefore(
+                toLocalDateTime(Instant.ofEpochMilli(currentBucket * BUCKET_MILLIS)));
+        if (purged > 0) {
+            log.info("Purged {} expired revoked tokens", purged);
+        }
+    }
+
+    private BloomFilter bucketFor(Instant expiration) {
+        return buckets.computeIfAbsent(bucketOf(expiration),
+                bucket -> new BloomFilter(EXPECTED_REVOCATIONS_PER_BUCKET, FALSE_POSITIVE_RATE));
+    }
+
+    private static long bucketOf(Instant instant) {
+        return instant.toEpochMilli() / BUCKET_MILLIS;
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -15,6 +15,8 @@ import java.util.List;
 @AllArgsConstructor
 public class UserDetailsImpl implements UserDetails {
     
+    static final String ROLE_PREFIX = "ROLE_";
+    
     private Long id;
     private String username;
     private String email;
@@ -23,10 +25,12 @@ public class UserDetailsImpl implements UserDetails {
     private String password;
     
     private Collection<? extends GrantedAuthority> authorities;
+    
+    private boolean active;
 
     public static UserDetailsImpl build(User user) {
         List<GrantedAuthority> authorities = List.of(
-            new SimpleGrantedAuthority("ROLE_" + user.getUserType().name())
+            new SimpleGrantedAuthority(ROLE_PREFIX + user.getUserType().name())
         );
 
         return new UserDetailsImpl(
@@ -34,10 +38,19 @@ public class UserDetailsImpl implements UserDetails {
             user.getUsername(),
             user.getEmail(),
             user.getPassword(),
-            authorities
+            authorities,
+            Boolean.TRUE.equals(user.getIsActive())
         );
     }
 
+    /**
+     * The user type behind the single ROLE_ authority.
+     */
+    @JsonIgnore
+    public String getRole() {
+        return authorities.iterator().next().getAuthority().substring(ROLE_PREFIX.length());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -60,6 +73,6 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return active;
     }
 }
\ No newline at end of file
@@ -4,49 +4,50 @@ import lombok.RequiredArgsConstructor;
 import org.example.dto.AuthRequest;
 import org.example.dto.AuthResponse;
 import org.example.dto.UserRegistrationRequest;
-import org.example.exception.BadRequestException;
 import org.example.model.User;
-import org.example.repository.UserRepository;
 import org.example.security.JwtTokenProvider;
+import org.example.security.TokenRevocationStore;
+import org.example.security.UserDetailsImpl;
 import org.example.util.EntityMapper;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
-    private final UserRepository userRepository;
+    private final UserRegistrationService userRegistrationService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
     private final EntityMapper entityMapper;
+    private final TokenRevocationStore revocationStore;
+    private final RefreshTokenService refreshTokenService;
 
-    @Transactional
+    /**
+     * Not transactional: the password is hashed, possibly after queueing for a
+     * hashing slot, before any database connection is borrowed.
+     */
     public AuthResponse register(UserRegistrationRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new BadRequestException("Username is already taken!");
-        }
-
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new BadRequestException("Email is already in use!");
-        }
-
         User user = entityMapper.toUser(request);
         user.setPassword(passwordEncoder.encode(request.getPassword()));
 
-        User savedUser = userRepository.save(user);
+        UserRegistrationService.Registration registration = userRegistrationService.register(user);
+        User savedUser = registration.user();
 
-        String jwt = tokenProvider.generateToken(savedUser.getUsername());
+        String jwt = tokenProvider.generateToken(savedUser);
 
-        return new AuthResponse(jwt, savedUser.getUsername(), 
+        return new AuthResponse(jwt, registration.refreshToken(), savedUser.getUsername(), 
                                savedUser.getEmail(), savedUser.getUserType().name());
     }
 
+    /**
+     * The authentication manager already loaded the user to check the password,
+     * so the response is built from its principal rather than a second lookup.
+     */
     public AuthResponse login(AuthRequest authRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -54,28 +55,29 @@ public class AuthService {
                         authRequest.getPassword()
                 )
         );
+        UserDetailsImpl principal = (UserDetailsImpl) authentication.getPrincipal();
 
         String jwt = tokenProvider.generateToken(authentication);
+        String refreshToken = refreshTokenService.issue(principal.getId());
 
-        User user = userRepository.findByUsername(authRequest.getUsername())
-                .orElseThrow(() -> new BadRequestException("User not found"));
-
-        return new AuthResponse(jwt, user.getUsername(), 
-                               user.getEmail(), user.getUserType().name());
+        return new AuthResponse(jwt, refreshToken, principal.getUsername(), 
+                               principal.getEmail(), principal.getRole());
     }
 
-    public AuthResponse refreshToken(String token) {
-        if (!tokenProvider.validateToken(token)) {
-            throw new BadRequestException("Invalid or expired token");
-        }
-
-        String username = tokenProvider.getUsernameFromToken(token);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BadRequestException("User not found"));
+    public AuthResponse refreshToken(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = rotation.user();
 
-        String newJwt = tokenProvider.generateToken(username);
+        String newJwt = tokenProvider.generateToken(user);
 
-        return new AuthResponse(newJwt, user.getUsername(), 
+        return new AuthResponse(newJwt, rotation.refreshToken(), user.getUsername(), 
                                user.getEmail(), user.getUserType().name());
     }
-}
\ No newline at end of file
+
+    public void logout(String token, String refreshToken) {
+        tokenProvider.verify(token).ifPresent(revocationStore::revoke);
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+}
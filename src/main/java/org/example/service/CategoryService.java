@@ -19,6 +19,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final EntityMapper entityMapper;
+    private final CategoryTaskCounter categoryTaskCounter;
 
     public Page<CategoryResponse> getAllCategories(String name, Pageable pageable) {
         Page<Category> categories;
@@ -28,17 +29,14 @@ public class CategoryService {
             categories = categoryRepository.findAll(pageable);
         }
         
-        return categories.map(category -> {
-            Long tasksCount = categoryRepository.countTasksByCategoryId(category.getId());
-            return entityMapper.toCategoryResponse(category, tasksCount);
-        });
+        return categories.map(category ->
+                entityMapper.toCategoryResponse(category, categoryTaskCounter.count(category.getId())));
     }
 
     public CategoryResponse getCategoryById(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
-        Long tasksCount = categoryRepository.countTasksByCategoryId(id);
-        return entityMapper.toCategoryResponse(category, tasksCount);
+        return entityMapper.toCategoryResponse(category, categoryTaskCounter.count(id));
     }
 
     @Transactional
@@ -64,8 +62,7 @@ public class CategoryService {
 
         entityMapper.updateCategoryFromRequest(category, request);
         Category updatedCategory = categoryRepository.save(category);
-        Long tasksCount = categoryRepository.countTasksByCategoryId(id);
-        return entityMapper.toCategoryResponse(updatedCategory, tasksCount);
+        return entityMapper.toCategoryResponse(updatedCategory, categoryTaskCounter.count(id));
     }
 
     @Transactional
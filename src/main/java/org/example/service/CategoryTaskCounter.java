@@ -0,0 +1,133 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.CategoryTaskCount;
+import org.example.model.TaskStatus;
+import org.example.repository.CategoryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Task counts per category and status, loaded with one grouped query and then
+ * kept current from committed task changes, so category listings never touch
+ * the tasks table. Only writes that go through {@link TaskService} are seen;
+ * anything else, such as tasks removed together with their creator, is picked
+ * up by the periodic re-sync.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryTaskCounter {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final CategoryRepository categoryRepository;
+
+    private final Object lock = new Object();
+    private volatile Map<Long, AtomicLongArray> counts;
+    // Non-null while a rebuild runs; guarded by lock
+    private List<TaskChangedEvent> pending;
+
+    /**
+     * Changes committed while the grouped query runs are buffered and replayed
+     * onto its result, so they are not lost when the new map replaces the old
+     * one. A change committed just before the query can be counted twice; the
+     * next re-sync corrects it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.tasks.count-resync-interval:PT15M}",
+               initialDelayString = "${app.tasks.count-resync-interval:PT15M}")
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+        List<CategoryTaskCount> rows;
+        try {
+            rows = categoryRepository.countTasksGroupedByCategoryAndStatus();
+        } catch (RuntimeException ex) {
+            synchronized (lock) {
+                pending = null;
+            }
+            throw ex;
+        }
+        Map<Long, AtomicLongArray> loaded = new ConcurrentHashMap<>();
+        for (CategoryTaskCount row : rows) {
+            loaded.computeIfAbsent(row.categoryId(), id -> new AtomicLongArray(STATUSES.length))
+                    .addAndGet(row.status().ordinal(), row.count());
+        }
+        synchronized (lock) {
+            pending.forEach(event -> apply(loaded, event));
+            pending = null;
+            counts = loaded;
+        }
+        log.info("Loaded task counts for {} categories", loaded.size());
+    }
+
+    public long count(Long categoryId) {
+        AtomicLongArray byStatus = counts().get(categoryId);
+        if (byStatus == null) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < byStatus.length(); i++) {
+            total += byStatus.get(i);
+        }
+        return total;
+    }
+
+    public Map<TaskStatus, Long> countByStatus(Long categoryId) {
+        AtomicLongArray byStatus = counts().get(categoryId);
+        Map<TaskStatus, Long> result = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            result.put(status, byStatus != null ? byStatus.get(status.ordinal()) : 0L);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!event.movesCount()) {
+            return;
+        }
+        synchronized (lock) {
+            if (counts != null) {
+                apply(counts, event);
+            }
+            if (pending != null) {
+                pending.add(event);
+            }
+        }
+    }
+
+    private static void apply(Map<Long, AtomicLongArray> target, TaskChangedEvent event) {
+        if (event.previousCategoryId() != null && event.previousStatus() != null) {
+            add(target, event.previousCategoryId(), event.previousStatus(), -1);
+        }
+        if (event.categoryId() != null && event.status() != null) {
+            add(target, event.categoryId(), event.status(), 1);
+        }
+    }
+
+    private static void add(Map<Long, AtomicLongArray> target, Long categoryId, TaskStatus status, long delta) {
+        target.computeIfAbsent(categoryId, id -> new AtomicLongArray(STATUSES.length))
+                .addAndGet(status.ordinal(), delta);
+    }
+
+    private Map<Long, AtomicLongArray> counts() {
+        if (counts == null) {
+            rebuild();
+        }
+        return counts;
+    }
+}
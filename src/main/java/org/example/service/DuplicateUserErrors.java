@@ -0,0 +1,37 @@
+package org.example.service;
+
+import org.example.exception.BadRequestException;
+import org.example.model.User;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Turns a unique-constraint violation on users into the message registration
+ * has always returned for a taken username or email.
+ */
+final class DuplicateUserErrors {
+
+    static final String USERNAME_TAKEN = "Username is already taken!";
+    static final String EMAIL_IN_USE = "Email is already in use!";
+
+    private DuplicateUserErrors() {
+    }
+
+    static RuntimeException translate(DataIntegrityViolationException ex) {
+        // Hibernate parses the constraint name out; plain JDBC only has it in the driver message
+        String constraint = ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : String.valueOf(ex.getMostSpecificCause().getMessage());
+        constraint = constraint.toLowerCase(Locale.ROOT);
+        if (constraint.contains(User.USERNAME_CONSTRAINT)) {
+            return new BadRequestException(USERNAME_TAKEN);
+        }
+        if (constraint.contains(User.EMAIL_CONSTRAINT)) {
+            return new BadRequestException(EMAIL_IN_USE);
+        }
+        return ex;
+    }
+}
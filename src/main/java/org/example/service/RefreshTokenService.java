@@ -0,0 +1,130 @@
+package org.example.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.exception.BadRequestException;
+import org.example.model.RefreshToken;
+import org.example.model.User;
+import org.example.repository.RefreshTokenRepository;
+import org.example.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque refresh tokens. Only a SHA-256 hash of each token is stored, found
+ * through its unique index; the tokens are 256 random bits, so no salt or slow
+ * hash is needed. A token works once: rotating it marks it used and issues its
+ * successor in the same family.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final Duration lifetime;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
+                               @Value("${jwt.refresh-expiration:1209600000}") long refreshExpirationMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.lifetime = Duration.ofMillis(refreshExpirationMs);
+    }
+
+    @Transactional
+    public String issue(Long userId) {
+        return issue(userRepository.getReferenceById(userId), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for its successor. A token that was already used
+     * or revoked means someone else holds a copy, so the family is revoked and
+     * both holders have to log in again; the revocation is committed even though
+     * the request fails.
+     */
+    @Transactional(noRollbackFor = BadRequestException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken stored = refreshTokenRepository.findWithUserByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new BadRequestException("Invalid refresh token"));
+        User user = stored.getUser();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (stored.getExpiresAt().isBefore(now)) {
+            throw new BadRequestException("Refresh token has expired");
+        }
+        if (Boolean.TRUE.equals(stored.getRevoked()) || refreshTokenRepository.markUsed(stored.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            log.warn("Refresh token reuse detected for user {}, revoked family {}",
+                    user.getUsername(), stored.getFamilyId());
+            throw new BadRequestException("Refresh token has already been used, please log in again");
+        }
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            throw new BadRequestException("Account is deactivated");
+        }
+
+        return new Rotation(user, issue(user, stored.getFamilyId()));
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findWithUserByTokenHash(hash(rawToken))
+                .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        refreshTokenRepository.revokeByUsername(event.username());
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation-purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(LocalDateTime.now().plus(lifetime))
+                .build());
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.service;
+
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+
+import java.util.Objects;
+
+/**
+ * Category and status of a task before and after a change; the "before" side
+ * is empty for a new task and the "after" side is empty for a deleted one.
+ */
+public record TaskChangedEvent(Long taskId,
+                               Long previousCategoryId, TaskStatus previousStatus,
+                               Long categoryId, TaskStatus status) {
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(task.getId(), null, null, categoryIdOf(task), task.getStatus());
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(task.getId(), categoryIdOf(task), task.getStatus(), null, null);
+    }
+
+    public static TaskChangedEvent updated(Task task, Long previousCategoryId, TaskStatus previousStatus) {
+        return new TaskChangedEvent(task.getId(), previousCategoryId, previousStatus, categoryIdOf(task), task.getStatus());
+    }
+
+    public boolean movesCount() {
+        return !Objects.equals(previousCategoryId, categoryId) || previousStatus != status;
+    }
+
+    private static Long categoryIdOf(Task task) {
+        return task.getCategory() != null ? task.getCategory().getId() : null;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.service;
+
+import org.example.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Volunteers whose participation in a task was completed, or revoked again when
+ * a completed task is deleted.
+ */
+public record TaskCompletionEvent(Long taskId, Long creatorId, List<Long> volunteerIds,
+                                  LocalDateTime completedAt, int delta) {
+
+    public static TaskCompletionEvent completed(Task task, List<Long> volunteerIds) {
+        return new TaskCompletionEvent(task.getId(), task.getCreator().getId(), volunteerIds, task.getCompletedAt(), 1);
+    }
+
+    public static TaskCompletionEvent revoked(Task task, List<Long> volunteerIds) {
+        return new TaskCompletionEvent(task.getId(), task.getCreator().getId(), volunteerIds, task.getCompletedAt(), -1);
+    }
+}
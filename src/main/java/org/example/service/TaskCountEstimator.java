@@ -0,0 +1,74 @@
+package org.example.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.model.Task;
+import org.example.repository.TaskRepository;
+import org.example.util.ExpiringCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Totals for paged task listings. Exact counts are cached briefly per filter
+ * signature; the unfiltered total on a large PostgreSQL table comes from the
+ * planner statistics instead of a scan.
+ */
+@Component
+@Slf4j
+public class TaskCountEstimator {
+
+    static final long PLANNER_ESTIMATE_THRESHOLD = 10_000;
+    private static final String ALL_TASKS = "*";
+    private static final int MAX_SIGNATURES = 1_000;
+
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExpiringCache<String, Long> counts;
+    private volatile Boolean postgres;
+
+    public TaskCountEstimator(TaskRepository taskRepository, JdbcTemplate jdbcTemplate,
+                              @Value("${app.tasks.count-cache-ttl:30s}") Duration ttl) {
+        this.taskRepository = taskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.counts = new ExpiringCache<>(ttl, MAX_SIGNATURES);
+    }
+
+    public long count(String signature, Specification<Task> spec) {
+        return counts.get(signature, key -> taskRepository.count(spec));
+    }
+
+    public long countAll() {
+        Long estimate = plannerEstimate();
+        if (estimate != null && estimate >= PLANNER_ESTIMATE_THRESHOLD) {
+            return estimate;
+        }
+        return counts.get(ALL_TASKS, key -> taskRepository.count());
+    }
+
+    private Long plannerEstimate() {
+        if (!isPostgres()) {
+            return null;
+        }
+        try {
+            return jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = 'tasks'::regclass", Long.class);
+        } catch (DataAccessException e) {
+            log.debug("Planner estimate for tasks unavailable", e);
+            return null;
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.TaskExportFormat;
+import org.example.dto.TaskExportRow;
+import org.example.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,location,latitude,longitude,start_date,end_date," +
+            "status,max_participants,current_participants,category,creator,created_at,updated_at";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes every task to the stream as it is read from the database cursor,
+     * so memory use does not depend on the number of tasks.
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = 0;
+
+        if (format == TaskExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TaskExportRow> rows = taskRepository.streamExportRows()) {
+            Iterator<TaskExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TaskExportRow row = iterator.next();
+                if (format == TaskExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                }
+                writer.write('\n');
+                count++;
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsv(Writer writer, TaskExportRow row) throws IOException {
+        Object[] values = {
+                row.id(), row.title(), row.description(), row.location(), row.latitude(), row.longitude(),
+                row.startDate(), row.endDate(), row.status(), row.maxParticipants(), row.currentParticipants(),
+                row.category(), row.creator(), row.createdAt(), row.updatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+    }
+
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.model.Task;
+import org.example.search.TaskSearchEngine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hands committed task text to the search engine, so a write that rolls back
+ * never reaches an in-process index.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndexer {
+
+    private final TaskSearchEngine taskSearchEngine;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskTextChanged(TaskTextChangedEvent event) {
+        if (event.isDeletion()) {
+            taskSearchEngine.remove(event.taskId());
+            return;
+        }
+        taskSearchEngine.index(Task.builder()
+                .id(event.taskId())
+                .title(event.title())
+                .description(event.description())
+                .build());
+    }
+}
@@ -1,66 +1,291 @@
 package org.example.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.dto.CursorPage;
+import org.example.dto.NearbyTaskResponse;
+import org.example.dto.TaskListItemResponse;
 import org.example.dto.TaskRequest;
 import org.example.dto.TaskResponse;
+import org.example.dto.TaskSearchResponse;
 import org.example.dto.TaskUpdateRequest;
+import org.example.dto.WaitlistResponse;
 import org.example.exception.BadRequestException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.exception.UnauthorizedException;
+import org.example.geo.GeoPoint;
+import org.example.geo.TaskGeocoder;
+import org.example.geo.TaskLocation;
 import org.example.model.*;
 import org.example.repository.CategoryRepository;
 import org.example.repository.TaskRepository;
 import org.example.repository.UserRepository;
+import org.example.repository.WaitlistEntryRepository;
+import org.example.search.SearchTokenizer;
+import org.example.search.TaskSearchEngine;
+import org.example.search.TaskSearchHit;
+import org.example.specification.TaskSpecification;
 import org.example.util.EntityMapper;
+import org.example.util.FieldSelection;
+import org.example.util.TaskCursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final int MAX_SCROLL_LIMIT = 100;
+    private static final Sort SCROLL_ORDER = Sort.by("startDate", "id");
+    private static final double MAX_NEARBY_RADIUS_KM = 50.0;
+    private static final int MAX_NEARBY_LIMIT = 100;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final EntityMapper entityMapper;
+    private final TaskSearchEngine taskSearchEngine;
+    private final TaskGeocoder taskGeocoder;
+    private final TaskCountEstimator taskCountEstimator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final TaskWaitlist taskWaitlist;
+    private final UserStatisticsService userStatisticsService;
+
+    public Page<TaskListItemResponse> getAllTasks(String title, String location, Long categoryId,
+                                                 TaskStatus status, LocalDateTime startDateFrom,
+                                                 LocalDateTime startDateTo, boolean hasFreeSeats,
+                                                 Pageable pageable) {
+        Specification<Task> spec = filter(title, location, categoryId, status, startDateFrom, startDateTo,
+                hasFreeSeats);
+        String signature = filterSignature(title, location, categoryId, status, startDateFrom, startDateTo,
+                hasFreeSeats);
+        return toPage(taskRepository.findListItemSlice(spec, pageable), pageable,
+                () -> signature.isEmpty() ? taskCountEstimator.countAll() : taskCountEstimator.count(signature, spec));
+    }
+
+    public Slice<TaskListItemResponse> getTaskSlice(String title, String location, Long categoryId,
+                                                    TaskStatus status, LocalDateTime startDateFrom,
+                                                    LocalDateTime startDateTo, boolean hasFreeSeats,
+                                                    Pageable pageable) {
+        return taskRepository.findListItemSlice(filter(title, location, categoryId, status, startDateFrom,
+                startDateTo, hasFreeSeats), pageable);
+    }
+
+    public Page<TaskSearchResponse> searchTasks(String query, Pageable pageable) {
+        List<String> terms = SearchTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+
+        Page<TaskSearchHit> hits = taskSearchEngine.search(terms, pageable);
+        Map<Long, TaskListItemResponse> tasks = findListItemsById(hits.map(TaskSearchHit::taskId).getContent());
+
+        List<TaskSearchResponse> results = hits.getContent().stream()
+                .filter(hit -> tasks.containsKey(hit.taskId()))
+                .map(hit -> TaskSearchResponse.builder()
+                        .task(tasks.get(hit.taskId()))
+                        .rank(hit.rank())
+                        .headline(hit.headline())
+                        .build())
+                .toList();
+        return new PageImpl<>(results, pageable, hits.getTotalElements());
+    }
+
+    public List<NearbyTaskResponse> findNearbyTasks(double latitude, double longitude, double radiusKm,
+                                                    TaskStatus status, Long categoryId, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Invalid coordinates");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new BadRequestException("Radius must be between 0 and " + (int) MAX_NEARBY_RADIUS_KM + " km");
+        }
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be at least 1");
+        }
 
-    public Page<TaskResponse> getAllTasks(String title, String location, Long categoryId,
-                                         TaskStatus status, LocalDateTime startDateFrom,
-                                         LocalDateTime startDateTo, Pageable pageable) {
-        return taskRepository.findAll(pageable)
-                .map(entityMapper::toTaskResponse);
+        GeoPoint origin = new GeoPoint(latitude, longitude);
+        Specification<Task> spec = TaskSpecification.filterTasks(null, null, categoryId, status, null, null)
+                .and(TaskSpecification.near(latitude, longitude, radiusKm));
+
+        // Rank the lightweight candidates first and load full tasks only for the page we return
+        List<RankedLocation> nearest = taskRepository.findLocations(spec).stream()
+                .map(location -> new RankedLocation(location,
+                        origin.distanceKm(location.latitude(), location.longitude())))
+                .filter(ranked -> ranked.distanceKm() <= radiusKm)
+                .sorted(Comparator.comparingDouble(RankedLocation::distanceKm)
+                        .thenComparing(ranked -> ranked.location().taskId()))
+                .limit(Math.min(limit, MAX_NEARBY_LIMIT))
+                .toList();
+
+        Map<Long, TaskListItemResponse> tasks = findListItemsById(nearest.stream()
+                .map(ranked -> ranked.location().taskId())
+                .toList());
+
+        return nearest.stream()
+                .filter(ranked -> tasks.containsKey(ranked.location().taskId()))
+                .map(ranked -> NearbyTaskResponse.builder()
+                        .task(tasks.get(ranked.location().taskId()))
+                        .distanceKm(Math.round(ranked.distanceKm() * 1000) / 1000.0)
+                        .build())
+                .toList();
     }
 
-    public TaskResponse getTaskById(Long id) {
+    public TaskResponse getTaskById(Long id, FieldSelection fields) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        return entityMapper.toTaskResponse(task);
+        return entityMapper.toTaskResponse(task, fields);
     }
 
-    public Page<TaskResponse> getTasksByCreator(Long creatorId, Pageable pageable) {
-        return taskRepository.findByCreatorId(creatorId, pageable)
-                .map(entityMapper::toTaskResponse);
+    public Page<TaskListItemResponse> getTasksByCreator(Long creatorId, Pageable pageable) {
+        Specification<Task> spec = TaskSpecification.createdBy(creatorId);
+        return toPage(taskRepository.findListItemSlice(spec, pageable), pageable,
+                () -> taskCountEstimator.count("creator=" + creatorId, spec));
     }
 
-    public Page<TaskResponse> getTasksByParticipant(Long userId, Pageable pageable) {
-        return taskRepository.findTasksByParticipantId(userId, pageable)
-                .map(entityMapper::toTaskResponse);
+    public Slice<TaskListItemResponse> getTaskSliceByCreator(Long creatorId, Pageable pageable) {
+        return taskRepository.findListItemSlice(TaskSpecification.createdBy(creatorId), pageable);
     }
 
-    public Page<TaskResponse> getTasksByCreatorUsername(String username, Pageable pageable) {
+    public Page<TaskResponse> getTasksByParticipant(Long userId, Pageable pageable, FieldSelection fields) {
+        return taskRepository.findTaskPage(TaskSpecification.hasParticipant(userId), pageable, fields)
+                .map(task -> entityMapper.toTaskResponse(task, fields));
+    }
+
+    public Page<TaskResponse> getTasksByCreatorUsername(String username, Pageable pageable, FieldSelection fields) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return getTasksByCreator(user.getId(), pageable);
+        return taskRepository.findTaskPage(TaskSpecification.createdBy(user.getId()), pageable, fields)
+                .map(task -> entityMapper.toTaskResponse(task, fields));
     }
 
-    public Page<TaskResponse> getTasksByParticipantUsername(String username, Pageable pageable) {
+    public Page<TaskResponse> getTasksByParticipantUsername(String username, Pageable pageable, FieldSelection fields) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return getTasksByParticipant(user.getId(), pageable);
+        return getTasksByParticipant(user.getId(), pageable, fields);
+    }
+
+    public CursorPage<TaskListItemResponse> scrollTasks(TaskStatus status, String after, int limit) {
+        return scrollListItems(TaskSpecification.hasStatus(status), after, limit);
+    }
+
+    public CursorPage<TaskListItemResponse> scrollTasksByCreator(Long creatorId, String after, int limit) {
+        return scrollListItems(TaskSpecification.createdBy(creatorId), after, limit);
+    }
+
+    public CursorPage<TaskResponse> scrollTasksByCreatorUsername(String username, String after, int limit,
+                                                                 FieldSelection fields) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return scroll(TaskSpecification.createdBy(user.getId()), after, limit, fields);
+    }
+
+    public CursorPage<TaskResponse> scrollTasksByParticipantUsername(String username, String after, int limit,
+                                                                     FieldSelection fields) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return scroll(TaskSpecification.hasParticipant(user.getId()), after, limit, fields);
+    }
+
+    private CursorPage<TaskListItemResponse> scrollListItems(Specification<Task> spec, String after, int limit) {
+        return scroll(spec, after, limit,
+                (page, size) -> taskRepository.findListItems(page, SCROLL_ORDER, size),
+                item -> new TaskCursor(item.getStartDate(), item.getId()));
+    }
+
+    private CursorPage<TaskResponse> scroll(Specification<Task> spec, String after, int limit, FieldSelection fields) {
+        return scroll(spec, after, limit,
+                (page, size) -> taskRepository.findTasks(page, SCROLL_ORDER, size, fields).stream()
+                        .map(task -> entityMapper.toTaskResponse(task, fields))
+                        .toList(),
+                task -> new TaskCursor(task.getStartDate(), task.getId()));
+    }
+
+    private <T> CursorPage<T> scroll(Specification<Task> spec, String after, int limit,
+                                     BiFunction<Specification<Task>, Integer, List<T>> loader,
+                                     Function<T, TaskCursor> cursorOf) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be at least 1");
+        }
+        int pageSize = Math.min(limit, MAX_SCROLL_LIMIT);
+
+        // One extra row tells us whether another page exists without a COUNT query
+        List<T> rows = loader.apply(spec.and(TaskSpecification.after(TaskCursor.decode(after))), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<T> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+
+        return new CursorPage<>(pageRows, nextCursor, hasNext, pageRows.size());
+    }
+
+    /**
+     * The total is only needed when the slice is full and more rows follow; it
+     * is then an estimate, but never less than what the client has already seen.
+     */
+    private <T> Page<T> toPage(Slice<T> slice, Pageable pageable, LongSupplier estimatedTotal) {
+        return PageableExecutionUtils.getPage(slice.getContent(), pageable, () -> {
+            long seen = pageable.getOffset() + slice.getNumberOfElements();
+            return slice.hasNext() ? Math.max(estimatedTotal.getAsLong(), seen + 1) : seen;
+        });
+    }
+
+    private static Specification<Task> filter(String title, String location, Long categoryId, TaskStatus status,
+                                              LocalDateTime startDateFrom, LocalDateTime startDateTo,
+                                              boolean hasFreeSeats) {
+        Specification<Task> spec = TaskSpecification.filterTasks(title, location, categoryId, status,
+                startDateFrom, startDateTo);
+        return hasFreeSeats ? spec.and(TaskSpecification.hasFreeSeats()) : spec;
+    }
+
+    private static String filterSignature(String title, String location, Long categoryId, TaskStatus status,
+                                          LocalDateTime startDateFrom, LocalDateTime startDateTo,
+                                          boolean hasFreeSeats) {
+        StringBuilder signature = new StringBuilder();
+        appendFilter(signature, "title", title != null && !title.isBlank() ? title.trim().toLowerCase() : null);
+        appendFilter(signature, "location", location != null && !location.isBlank() ? location.trim().toLowerCase() : null);
+        appendFilter(signature, "category", categoryId);
+        appendFilter(signature, "status", status);
+        appendFilter(signature, "from", startDateFrom);
+        appendFilter(signature, "to", startDateTo);
+        appendFilter(signature, "freeSeats", hasFreeSeats ? true : null);
+        return signature.toString();
+    }
+
+    private static void appendFilter(StringBuilder signature, String name, Object value) {
+        if (value != null) {
+            signature.append(name).append('=').append(value).append(';');
+        }
+    }
+
+    private Map<Long, TaskListItemResponse> findListItemsById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return taskRepository.findListItems(TaskSpecification.idIn(ids), Sort.unsorted(), ids.size()).stream()
+                .collect(Collectors.toMap(TaskListItemResponse::getId, Function.identity()));
     }
 
     @Transactional
@@ -78,14 +303,18 @@ public class TaskService {
         Task task = entityMapper.toTask(request);
         task.setCreator(creator);
         task.setCategory(category);
+        taskGeocoder.geocode(task, request.getLatitude(), request.getLongitude());
 
         Task savedTask = taskRepository.save(task);
+        userStatisticsService.taskCreated(creator.getId());
+        eventPublisher.publishEvent(TaskTextChangedEvent.indexed(savedTask));
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
         return entityMapper.toTaskResponse(savedTask);
     }
 
     @Transactional
     public TaskResponse updateTask(Long id, TaskUpdateRequest request, String username) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
         if (!task.getCreator().getUsername().equals(username)) {
@@ -96,6 +325,7 @@ public class TaskService {
             throw new BadRequestException("Only open tasks can be updated");
         }
 
+        Long previousCategoryId = task.getCategory() != null ? task.getCategory().getId() : null;
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + request.getCategoryId()));
@@ -108,13 +338,18 @@ public class TaskService {
         }
 
         entityMapper.updateTaskFromRequest(task, request);
+        if (request.getLocation() != null || request.getLatitude() != null || request.getLongitude() != null) {
+            taskGeocoder.geocode(task, request.getLatitude(), request.getLongitude());
+        }
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskTextChangedEvent.indexed(updatedTask));
+        eventPublisher.publishEvent(TaskChangedEvent.updated(updatedTask, previousCategoryId, TaskStatus.OPEN));
         return entityMapper.toTaskResponse(updatedTask);
     }
 
     @Transactional
     public void deleteTask(Long id, String username) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
         if (!task.getCreator().getUsername().equals(username)) {
@@ -125,7 +360,17 @@ public class TaskService {
             throw new BadRequestException("Cannot delete task that is in progress");
         }
 
+        clearWaitlist(id);
+        userStatisticsService.taskDeleted(task);
+        List<Long> completedVolunteerIds = task.getStatus() == TaskStatus.COMPLETED
+                ? participantIds(task, ParticipationStatus.COMPLETED)
+                : List.of();
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskTextChangedEvent.deleted(id));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
+        if (!completedVolunteerIds.isEmpty()) {
+            eventPublisher.publishEvent(TaskCompletionEvent.revoked(task, completedVolunteerIds));
+        }
     }
 
     @Transactional
@@ -148,33 +393,34 @@ public class TaskService {
             throw new BadRequestException("Cannot join your own task");
         }
 
-        if (task.getParticipants().contains(user)) {
+        if (taskRepository.isUserParticipant(taskId, user.getId())) {
             throw new BadRequestException("You are already a participant in this task");
         }
 
-        if (task.getParticipants().size() >= task.getMaxParticipants()) {
+        if (taskRepository.claimSeat(taskId) == 0) {
             throw new BadRequestException("Task has reached maximum participants");
         }
-
-        task.getParticipants().add(user);
-
-        if (task.getParticipants().size() == task.getMaxParticipants()) {
-            task.setStatus(TaskStatus.IN_PROGRESS);
+        try {
+            taskRepository.addParticipant(taskId, user.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("You are already a participant in this task");
         }
+        userStatisticsService.volunteersJoined(task.getCreator().getId(), taskId, List.of(user.getId()));
 
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = reload(taskId);
+        publishStatusChange(updatedTask, TaskStatus.OPEN);
         return entityMapper.toTaskResponse(updatedTask);
     }
 
     @Transactional
     public TaskResponse leaveTask(Long taskId, String username) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdForUpdate(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
 
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        if (!task.getParticipants().contains(user)) {
+        if (!taskRepository.isUserParticipant(taskId, user.getId())) {
             throw new BadRequestException("You are not a participant in this task");
         }
 
@@ -182,20 +428,98 @@ public class TaskService {
             throw new BadRequestException("Cannot leave completed tasks");
         }
 
-        task.getParticipants().remove(user);
+        TaskStatus previousStatus = task.getStatus();
+        if (taskRepository.removeParticipant(taskId, user.getId()) == 0) {
+            throw new BadRequestException("You are not a participant in this task");
+        }
+        taskRepository.releaseSeat(taskId);
+        userStatisticsService.volunteersLeft(task.getCreator().getId(), taskId, List.of(user.getId()));
+        promoteNextWaiter(task);
 
-        if (task.getStatus() == TaskStatus.IN_PROGRESS && 
-            task.getParticipants().size() < task.getMaxParticipants()) {
-            task.setStatus(TaskStatus.OPEN);
+        Task updatedTask = reload(taskId);
+        publishStatusChange(updatedTask, previousStatus);
+        return entityMapper.toTaskResponse(updatedTask);
+    }
+
+    /**
+     * Joins a whole team with one seat check: either every volunteer gets a seat
+     * or nobody does. The caller must be a member of the team.
+     */
+    @Transactional
+    public TaskResponse joinTaskAsGroup(Long taskId, List<String> usernames, String username) {
+        requireGroupMember(usernames, username);
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        if (task.getStatus() != TaskStatus.OPEN) {
+            throw new BadRequestException("Can only join open tasks");
         }
 
-        Task updatedTask = taskRepository.save(task);
+        List<User> members = findGroupMembers(usernames);
+        for (User member : members) {
+            if (member.getUserType() != UserType.VOLUNTEER) {
+                throw new BadRequestException("Only volunteers can join tasks: " + member.getUsername());
+            }
+            if (member.getId().equals(task.getCreator().getId())) {
+                throw new BadRequestException("Cannot join your own task: " + member.getUsername());
+            }
+        }
+
+        List<Long> memberIds = members.stream().map(User::getId).toList();
+        List<Long> alreadyJoined = taskRepository.findParticipantIds(taskId, memberIds);
+        if (!alreadyJoined.isEmpty()) {
+            throw new BadRequestException("Already participants in this task: " + usernamesOf(members, alreadyJoined));
+        }
+
+        if (taskRepository.claimSeats(taskId, memberIds.size()) == 0) {
+            throw new BadRequestException("Task does not have " + memberIds.size() + " free seats");
+        }
+        taskRepository.addParticipants(taskId, memberIds);
+        userStatisticsService.volunteersJoined(task.getCreator().getId(), taskId, memberIds);
+
+        Task updatedTask = reload(taskId);
+        publishStatusChange(updatedTask, TaskStatus.OPEN);
+        return entityMapper.toTaskResponse(updatedTask);
+    }
+
+    @Transactional
+    public TaskResponse leaveTaskAsGroup(Long taskId, List<String> usernames, String username) {
+        requireGroupMember(usernames, username);
+        Task task = taskRepository.findByIdForUpdate(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        if (task.getStatus() == TaskStatus.COMPLETED) {
+            throw new BadRequestException("Cannot leave completed tasks");
+        }
+
+        List<User> members = findGroupMembers(usernames);
+        List<Long> memberIds = members.stream().map(User::getId).toList();
+        List<Long> participantIds = taskRepository.findParticipantIds(taskId, memberIds);
+        if (participantIds.size() != memberIds.size()) {
+            List<Long> missing = memberIds.stream().filter(id -> !participantIds.contains(id)).toList();
+            throw new BadRequestException("Not participants in this task: " + usernamesOf(members, missing));
+        }
+
+        TaskStatus previousStatus = task.getStatus();
+        if (taskRepository.removeParticipants(taskId, memberIds) != memberIds.size()) {
+            throw new BadRequestException("Group membership changed concurrently, please retry");
+        }
+        taskRepository.releaseSeats(taskId, memberIds.size());
+        userStatisticsService.volunteersLeft(task.getCreator().getId(), taskId, memberIds);
+        for (int seat = 0; seat < memberIds.size(); seat++) {
+            if (!promoteNextWaiter(task)) {
+                break;
+            }
+        }
+
+        Task updatedTask = reload(taskId);
+        publishStatusChange(updatedTask, previousStatus);
         return entityMapper.toTaskResponse(updatedTask);
     }
 
     @Transactional
     public TaskResponse completeTask(Long taskId, String username) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdForUpdate(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
 
         if (!task.getCreator().getUsername().equals(username)) {
@@ -206,14 +530,21 @@ public class TaskService {
             throw new BadRequestException("Only tasks in progress can be completed");
         }
 
+        List<Long> volunteerIds = participantIds(task, ParticipationStatus.ACTIVE);
         task.setStatus(TaskStatus.COMPLETED);
+        task.setCompletedAt(LocalDateTime.now());
         Task updatedTask = taskRepository.save(task);
+        taskRepository.updateParticipationStatus(taskId, ParticipationStatus.COMPLETED);
+        userStatisticsService.taskStatusChanged(updatedTask, TaskStatus.IN_PROGRESS);
+        clearWaitlist(taskId);
+        publishStatusChange(updatedTask, TaskStatus.IN_PROGRESS);
+        eventPublisher.publishEvent(TaskCompletionEvent.completed(updatedTask, volunteerIds));
         return entityMapper.toTaskResponse(updatedTask);
     }
 
     @Transactional
     public TaskResponse cancelTask(Long taskId, String username) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdForUpdate(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
 
         if (!task.getCreator().getUsername().equals(username)) {
@@ -224,11 +555,96 @@ public class TaskService {
             throw new BadRequestException("Cannot cancel completed tasks");
         }
 
+        TaskStatus previousStatus = task.getStatus();
         task.setStatus(TaskStatus.CANCELLED);
         Task updatedTask = taskRepository.save(task);
+        taskRepository.updateParticipationStatus(taskId, ParticipationStatus.CANCELLED);
+        userStatisticsService.taskStatusChanged(updatedTask, previousStatus);
+        clearWaitlist(taskId);
+        publishStatusChange(updatedTask, previousStatus);
         return entityMapper.toTaskResponse(updatedTask);
     }
 
+    /**
+     * Queues a volunteer for a full task instead of having them retry the join;
+     * they are given the next seat that a participant releases. The task row is
+     * locked before the seat check so a concurrent leave cannot free a seat and
+     * promote from the queue before this entry is visible to it.
+     */
+    @Transactional
+    public WaitlistResponse joinWaitlist(Long taskId, String username) {
+        Task task = taskRepository.findByIdForUpdate(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        if (user.getUserType() != UserType.VOLUNTEER) {
+            throw new BadRequestException("Only volunteers can join tasks");
+        }
+
+        if (task.getStatus() != TaskStatus.OPEN && task.getStatus() != TaskStatus.IN_PROGRESS) {
+            throw new BadRequestException("Can only wait for open or in-progress tasks");
+        }
+
+        if (task.getCreator().getId().equals(user.getId())) {
+            throw new BadRequestException("Cannot join your own task");
+        }
+
+        if (task.getCurrentParticipants() < task.getMaxParticipants()) {
+            throw new BadRequestException("Task has free seats, join it directly");
+        }
+
+        if (taskRepository.isUserParticipant(taskId, user.getId())) {
+            throw new BadRequestException("You are already a participant in this task");
+        }
+
+        if (waitlistEntryRepository.existsByTaskIdAndUserId(taskId, user.getId())) {
+            throw new BadRequestException("You are already on the waitlist for this task");
+        }
+
+        WaitlistEntry entry;
+        try {
+            entry = waitlistEntryRepository.saveAndFlush(WaitlistEntry.builder().task(task).user(user).build());
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("You are already on the waitlist for this task");
+        }
+        eventPublisher.publishEvent(WaitlistChangedEvent.enqueued(taskId, user.getId()));
+
+        int position = (int) waitlistEntryRepository.countByTaskIdAndIdLessThanEqual(taskId, entry.getId());
+        return WaitlistResponse.builder()
+                .taskId(taskId)
+                .position(position)
+                .waiting(Math.max(position, taskWaitlist.size(taskId)))
+                .build();
+    }
+
+    @Transactional
+    public void leaveWaitlist(Long taskId, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        if (waitlistEntryRepository.deleteEntry(taskId, user.getId()) == 0) {
+            throw new BadRequestException("You are not on the waitlist for this task");
+        }
+        eventPublisher.publishEvent(WaitlistChangedEvent.removed(taskId, user.getId()));
+    }
+
+    public WaitlistResponse getWaitlistPosition(Long taskId, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        int position = taskWaitlist.position(taskId, user.getId());
+        if (position == 0) {
+            throw new ResourceNotFoundException("You are not on the waitlist for task with id: " + taskId);
+        }
+        return WaitlistResponse.builder()
+                .taskId(taskId)
+                .position(position)
+                .waiting(taskWaitlist.size(taskId))
+                .build();
+    }
+
     public boolean isUserParticipant(Long taskId, Long userId) {
         return taskRepository.isUserParticipant(taskId, userId);
     }
@@ -236,4 +652,96 @@ public class TaskService {
     public Integer getTaskParticipantsCount(Long taskId) {
         return taskRepository.countParticipantsByTaskId(taskId);
     }
-}
\ No newline at end of file
+
+    /**
+     * The seat updates clear the persistence context, so the response is built
+     * from a fresh read of the row they changed.
+     */
+    private Task reload(Long taskId) {
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+    }
+
+    /**
+     * Runs after a seat was released, while the seat update still holds the task
+     * row lock: concurrent leaves promote one waiter each, and a fresh joiner
+     * cannot take the seat first. The seat is claimed before the waiter leaves the
+     * queue, so a waiter only loses their place once they have a seat. Waiters who
+     * already joined directly are dropped from the queue, and an entry withdrawn
+     * between the read and the delete gives its seat back to the next waiter.
+     */
+    private boolean promoteNextWaiter(Task task) {
+        Long taskId = task.getId();
+        Optional<WaitlistEntry> next;
+        while ((next = waitlistEntryRepository.findFirstByTaskIdOrderByIdAsc(taskId)).isPresent()) {
+            Long userId = next.get().getUser().getId();
+            if (taskRepository.isUserParticipant(taskId, userId)) {
+                if (waitlistEntryRepository.deleteEntry(taskId, userId) > 0) {
+                    eventPublisher.publishEvent(WaitlistChangedEvent.removed(taskId, userId));
+                }
+                continue;
+            }
+            if (taskRepository.claimSeat(taskId) == 0) {
+                return false;
+            }
+            if (waitlistEntryRepository.deleteEntry(taskId, userId) == 0) {
+                taskRepository.releaseSeat(taskId);
+                continue;
+            }
+            eventPublisher.publishEvent(WaitlistChangedEvent.removed(taskId, userId));
+            taskRepository.addParticipant(taskId, userId);
+            userStatisticsService.volunteersJoined(task.getCreator().getId(), taskId, List.of(userId));
+            return true;
+        }
+        return false;
+    }
+
+    private static void requireGroupMember(List<String> usernames, String username) {
+        if (!usernames.contains(username)) {
+            throw new AccessDeniedException("You can only act for a group you belong to");
+        }
+    }
+
+    /**
+     * Resolves the group with one query; duplicates in the request are ignored.
+     */
+    private List<User> findGroupMembers(List<String> usernames) {
+        Set<String> unique = new LinkedHashSet<>(usernames);
+        List<User> members = userRepository.findByUsernameIn(unique);
+        if (members.size() != unique.size()) {
+            Set<String> found = members.stream().map(User::getUsername).collect(Collectors.toSet());
+            unique.removeAll(found);
+            throw new ResourceNotFoundException("Users not found: " + String.join(", ", unique));
+        }
+        return members;
+    }
+
+    private static String usernamesOf(List<User> members, Collection<Long> ids) {
+        return members.stream()
+                .filter(member -> ids.contains(member.getId()))
+                .map(User::getUsername)
+                .collect(Collectors.joining(", "));
+    }
+
+    private void clearWaitlist(Long taskId) {
+        if (waitlistEntryRepository.deleteByTaskId(taskId) > 0) {
+            eventPublisher.publishEvent(WaitlistChangedEvent.cleared(taskId));
+        }
+    }
+
+    private static List<Long> participantIds(Task task, ParticipationStatus status) {
+        return task.getParticipations().stream()
+                .filter(participation -> participation.getStatus() == status)
+                .map(participation -> participation.getId().getUserId())
+                .toList();
+    }
+
+    private void publishStatusChange(Task task, TaskStatus previousStatus) {
+        if (task.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(TaskChangedEvent.updated(task, task.getCategory().getId(), previousStatus));
+        }
+    }
+
+    private record RankedLocation(TaskLocation location, double distanceKm) {
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.service;
+
+import org.example.model.Task;
+
+/**
+ * Searchable text of a task after a change; title and description are empty
+ * when the task was deleted.
+ */
+public record TaskTextChangedEvent(Long taskId, String title, String description) {
+
+    public static TaskTextChangedEvent indexed(Task task) {
+        return new TaskTextChangedEvent(task.getId(), task.getTitle(), task.getDescription());
+    }
+
+    public static TaskTextChangedEvent deleted(Long taskId) {
+        return new TaskTextChangedEvent(taskId, null, null);
+    }
+
+    public boolean isDeletion() {
+        return title == null && description == null;
+    }
+}
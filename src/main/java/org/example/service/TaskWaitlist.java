@@ -0,0 +1,70 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.repository.WaitlistEntryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory mirror of the task_waitlist table so volunteers can poll their
+ * place in the queue without a query. The table stays authoritative for
+ * promotion; this copy follows it from committed changes.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TaskWaitlist {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    private final Map<Long, List<Long>> queues = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, List<Long>> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : waitlistEntryRepository.findAllQueued()) {
+            loaded.computeIfAbsent((Long) row[0], taskId -> new ArrayList<>()).add((Long) row[1]);
+        }
+        queues.clear();
+        loaded.forEach((taskId, userIds) -> queues.put(taskId, List.copyOf(userIds)));
+        log.info("Loaded waitlists for {} tasks", loaded.size());
+    }
+
+    /**
+     * 1-based place of the user in the task's queue, or 0 when not waiting.
+     */
+    public int position(Long taskId, Long userId) {
+        return queues.getOrDefault(taskId, List.of()).indexOf(userId) + 1;
+    }
+
+    public int size(Long taskId) {
+        return queues.getOrDefault(taskId, List.of()).size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistChanged(WaitlistChangedEvent event) {
+        switch (event.change()) {
+            case ENQUEUED -> queues.compute(event.taskId(), (taskId, userIds) -> {
+                List<Long> updated = userIds != null ? new ArrayList<>(userIds) : new ArrayList<>();
+                if (!updated.contains(event.userId())) {
+                    updated.add(event.userId());
+                }
+                return List.copyOf(updated);
+            });
+            case REMOVED -> queues.computeIfPresent(event.taskId(), (taskId, userIds) -> {
+                List<Long> updated = new ArrayList<>(userIds);
+                updated.remove(event.userId());
+                return updated.isEmpty() ? null : List.copyOf(updated);
+            });
+            case CLEARED -> queues.remove(event.taskId());
+        }
+    }
+}
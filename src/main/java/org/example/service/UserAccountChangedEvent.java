@@ -0,0 +1,7 @@
+package org.example.service;
+
+/**
+ * A change to a user that affects how they authenticate, such as deactivation.
+ */
+public record UserAccountChangedEvent(String username) {
+}
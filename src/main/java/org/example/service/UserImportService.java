@@ -0,0 +1,249 @@
+package org.example.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.UserImportResponse;
+import org.example.dto.UserRegistrationRequest;
+import org.example.exception.BadRequestException;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.repository.UserBatchRepository;
+import org.example.security.BoundedPasswordEncoder;
+import org.example.util.EntityMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Admin bulk onboarding from CSV. Each row is validated like a registration and
+ * checked against the file and the existing users with a few IN queries; bad
+ * rows are reported and skipped. The rest are hashed in parallel before any
+ * transaction starts and inserted in JDBC batches.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserImportService {
+
+    static final int MAX_ROWS = 10_000;
+    private static final int LOOKUP_CHUNK = 1_000;
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("username", "email", "password", "firstName", "lastName", "userType");
+
+    private final UserBatchRepository userBatchRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final EntityMapper entityMapper;
+    private final Validator validator;
+
+    public UserImportResponse importUsers(InputStream csv) throws IOException {
+        Map<Integer, String> errors = new TreeMap<>();
+        Map<Integer, UserRegistrationRequest> requests = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String header = readRecord(reader);
+            if (header == null) {
+                throw new BadRequestException("CSV file is empty");
+            }
+            Map<String, Integer> columns = columnIndexes(parseRecord(header.replace("\uFEFF", "")));
+
+            String record;
+            int row = 0;
+            while ((record = readRecord(reader)) != null) {
+                if (record.isBlank()) {
+                    continue;
+                }
+                if (++row > MAX_ROWS) {
+                    throw new BadRequestException("A single import is limited to " + MAX_ROWS + " users");
+                }
+                String error = addRequest(row, parseRecord(record), columns, requests);
+                if (error != null) {
+                    errors.put(row, error);
+                }
+            }
+        }
+
+        rejectDuplicates(requests, errors);
+        if (requests.isEmpty()) {
+            return new UserImportResponse(0, errors.size(), describe(errors));
+        }
+
+        List<UserRegistrationRequest> accepted = List.copyOf(requests.values());
+        List<String> hashes = passwordEncoder.encodeAll(accepted.stream().map(UserRegistrationRequest::getPassword).toList());
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            User user = entityMapper.toUser(accepted.get(i));
+            user.setPassword(hashes.get(i));
+            users.add(user);
+        }
+
+        int imported;
+        try {
+            imported = userBatchRepository.insertAll(users);
+        } catch (DataIntegrityViolationException ex) {
+            // Someone registered one of these names after the duplicate check
+            throw DuplicateUserErrors.translate(ex);
+        }
+        log.info("Imported {} users, skipped {}", imported, errors.size());
+        return new UserImportResponse(imported, errors.size(), describe(errors));
+    }
+
+    private static List<String> describe(Map<Integer, String> errors) {
+        return errors.entrySet().stream()
+                .map(error -> "Row " + error.getKey() + ": " + error.getValue())
+                .toList();
+    }
+
+    private String addRequest(int row, List<String> values, Map<String, Integer> columns,
+                              Map<Integer, UserRegistrationRequest> requests) {
+        UserRegistrationRequest request = new UserRegistrationRequest();
+        request.setUsername(value(values, columns, "username"));
+        request.setEmail(value(values, columns, "email"));
+        request.setPassword(value(values, columns, "password"));
+        request.setFirstName(value(values, columns, "firstName"));
+        request.setLastName(value(values, columns, "lastName"));
+        request.setPhone(value(values, columns, "phone"));
+        request.setBio(value(values, columns, "bio"));
+        request.setAddress(value(values, columns, "address"));
+
+        String userType = value(values, columns, "userType");
+        if (userType != null) {
+            try {
+                request.setUserType(UserType.valueOf(userType.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                return "Unknown user type " + userType;
+            }
+        }
+
+        Set<ConstraintViolation<UserRegistrationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        requests.put(row, request);
+        return null;
+    }
+
+    /**
+     * Drops rows whose username or email repeats an earlier row or an existing
+     * user, with the same messages a single registration would get.
+     */
+    private void rejectDuplicates(Map<Integer, UserRegistrationRequest> requests, Map<Integer, String> errors) {
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        List<UserRegistrationRequest> all = List.copyOf(requests.values());
+        for (int from = 0; from < all.size(); from += LOOKUP_CHUNK) {
+            List<UserRegistrationRequest> chunk = all.subList(from, Math.min(from + LOOKUP_CHUNK, all.size()));
+            takenUsernames.addAll(userBatchRepository.findExistingUsernames(
+                    chunk.stream().map(UserRegistrationRequest::getUsername).toList()));
+            takenEmails.addAll(userBatchRepository.findExistingEmails(
+                    chunk.stream().map(UserRegistrationRequest::getEmail).toList()));
+        }
+
+        requests.entrySet().removeIf(entry -> {
+            UserRegistrationRequest request = entry.getValue();
+            String error = null;
+            if (!takenUsernames.add(request.getUsername())) {
+                error = DuplicateUserErrors.USERNAME_TAKEN;
+            } else if (!takenEmails.add(request.getEmail())) {
+                takenUsernames.remove(request.getUsername());
+                error = DuplicateUserErrors.EMAIL_IN_USE;
+            }
+            if (error != null) {
+                errors.put(entry.getKey(), error);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static Map<String, Integer> columnIndexes(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("Missing CSV columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Reads one CSV record; a quoted value may span lines.
+     */
+    private static String readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        StringBuilder record = new StringBuilder(line);
+        while (record.chars().filter(c -> c == '"').count() % 2 != 0) {
+            String next = reader.readLine();
+            if (next == null) {
+                break;
+            }
+            record.append('\n').append(next);
+        }
+        return record.toString();
+    }
+
+    /**
+     * Splits a record written the way {@link TaskExportService} writes CSV:
+     * values with commas, quotes or line breaks are quoted, quotes doubled.
+     */
+    static List<String> parseRecord(String record) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
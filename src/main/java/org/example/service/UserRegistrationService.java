@@ -0,0 +1,41 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.model.User;
+import org.example.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transactional half of registration. {@link AuthService} hashes the password
+ * first, because waiting for a hashing slot inside the transaction would hold
+ * a pooled connection for the whole wait.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserRegistrationService {
+
+    private final UserRepository userRepository;
+    private final UserStatisticsService userStatisticsService;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * Relies on the unique constraints instead of checking first: one insert,
+     * and two identical registrations cannot both get through.
+     */
+    @Transactional
+    public Registration register(User user) {
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw DuplicateUserErrors.translate(ex);
+        }
+        userStatisticsService.initialize(savedUser);
+        return new Registration(savedUser, refreshTokenService.issue(savedUser.getId()));
+    }
+
+    public record Registration(User user, String refreshToken) {
+    }
+}
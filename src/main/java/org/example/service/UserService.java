@@ -7,18 +7,19 @@ import org.example.dto.UserUpdateRequest;
 import org.example.exception.BadRequestException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.model.User;
+import org.example.model.UserStatistics;
 import org.example.model.UserType;
 import org.example.repository.UserRepository;
+import org.example.repository.UserStatisticsRepository;
 import org.example.specification.UserSpecification;
 import org.example.util.EntityMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -26,38 +27,15 @@ public class UserService {
     private final UserRepository userRepository;
     private final EntityMapper entityMapper;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatisticsRepository userStatisticsRepository;
+    private final UserStatisticsService userStatisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<UserResponse> getAllUsers(String username, String email, 
                                          UserType userType, Boolean isActive, 
                                          Pageable pageable) {
-        Page<User> users;
-        
-        // Apply filters if provided
-        if (userType != null) {
-            users = userRepository.findByUserType(userType, pageable);
-        } else if (isActive != null) {
-            users = userRepository.findByIsActive(isActive, pageable);
-        } else {
-            users = userRepository.findAll(pageable);
-        }
-        
-        // Apply additional filters in memory if needed
-        if (username != null || email != null) {
-            List<User> filteredUsers = users.getContent().stream()
-                .filter(user -> username == null || user.getUsername().toLowerCase().contains(username.toLowerCase()))
-                .filter(user -> email == null || user.getEmail().toLowerCase().contains(email.toLowerCase()))
-                .collect(java.util.stream.Collectors.toList());
-            
-            List<UserResponse> userResponses = filteredUsers.stream()
-                .map(entityMapper::toUserResponse)
-                .collect(java.util.stream.Collectors.toList());
-                
-            return new org.springframework.data.domain.PageImpl<>(
-                userResponses, pageable, filteredUsers.size()
-            );
-        }
-        
-        return users.map(entityMapper::toUserResponse);
+        return userRepository.findAll(UserSpecification.filterUsers(username, email, userType, isActive), pageable)
+                .map(entityMapper::toUserResponse);
     }
 
     public UserResponse getUserById(Long id) {
@@ -110,54 +88,21 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         user.setIsActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUsername()));
     }
 
     public UserStatisticsResponse getUserStatistics(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
-
-        return getUserStatisticsById(user.getId());
+        UserStatistics statistics = userStatisticsRepository.findWithUserByUsername(username)
+                .orElseGet(() -> userStatisticsService.refresh(userRepository.findByUsername(username)
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username))));
+        return toStatisticsResponse(statistics);
     }
 
     public UserStatisticsResponse getUserStatisticsById(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-
-        // Re-enabled statistics with proper exception handling
-        Long completedTasks;
-        Long cancelledTasks;
-        Long participatedTasks;
-        Long volunteersHelped;
-        
-        try {
-            completedTasks = userRepository.countTasksByUserIdAndStatus(userId, 
-                org.example.model.TaskStatus.COMPLETED);
-            cancelledTasks = userRepository.countTasksByUserIdAndStatus(userId, 
-                org.example.model.TaskStatus.CANCELLED);
-            participatedTasks = userRepository.countCompletedParticipationsByUserId(userId, 
-                org.example.model.TaskStatus.COMPLETED);
-            volunteersHelped = userRepository.countVolunteersHelpedByUserId(userId);
-        } catch (Exception e) {
-            // Fallback to manual calculation if database queries fail
-            completedTasks = (long) user.getCreatedTasks().stream()
-                .mapToInt(task -> task.getStatus() == org.example.model.TaskStatus.COMPLETED ? 1 : 0).sum();
-            cancelledTasks = (long) user.getCreatedTasks().stream()
-                .mapToInt(task -> task.getStatus() == org.example.model.TaskStatus.CANCELLED ? 1 : 0).sum();
-            participatedTasks = (long) user.getParticipatingTasks().size();
-            volunteersHelped = 0L;
-        }
-
-        return UserStatisticsResponse.builder()
-                .userId(user.getId())
-                .username(user.getUsername())
-                .userType(user.getUserType().name())
-                .dateJoined(user.getDateJoined())
-                .totalCreatedTasks((long) user.getCreatedTasks().size())
-                .totalCompletedTasks(completedTasks)
-                .totalCancelledTasks(cancelledTasks)
-                .totalParticipatedTasks(participatedTasks)
-                .totalVolunteersHelped(volunteersHelped != null ? volunteersHelped : 0L)
-                .build();
+        UserStatistics statistics = userStatisticsRepository.findWithUserByUserId(userId)
+                .orElseGet(() -> userStatisticsService.refresh(userRepository.findById(userId)
+                        .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId))));
+        return toStatisticsResponse(statistics);
     }
 
     public boolean existsByUsername(String username) {
@@ -168,4 +113,18 @@ public class UserService {
         return userRepository.existsByEmail(email);
     }
 
-}
\ No newline at end of file
+    private static UserStatisticsResponse toStatisticsResponse(UserStatistics statistics) {
+        User user = statistics.getUser();
+        return UserStatisticsResponse.builder()
+                .userId(user.getId())
+                .username(user.getUsername())
+                .userType(user.getUserType().name())
+                .dateJoined(user.getDateJoined())
+                .totalCreatedTasks(statistics.getCreatedTasks())
+                .totalCompletedTasks(statistics.getCompletedTasks())
+                .totalCancelledTasks(statistics.getCancelledTasks())
+                .totalParticipatedTasks(statistics.getParticipatedTasks())
+                .totalVolunteersHelped(statistics.getVolunteersHelped())
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.model.ParticipationStatus;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.model.User;
+import org.example.model.UserStatistics;
+import org.example.repository.UserRepository;
+import org.example.repository.UserStatisticsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Keeps user_statistics in step with task changes. The incremental updates join
+ * the caller's transaction so a counter never moves without the change behind it.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserStatisticsService {
+
+    private final UserStatisticsRepository userStatisticsRepository;
+    private final UserRepository userRepository;
+
+    @Transactional
+    public void initialize(User user) {
+        userStatisticsRepository.save(UserStatistics.builder().user(user).build());
+    }
+
+    /**
+     * Recomputes one user's row from the source tables, for users that predate
+     * the read table and have not been backfilled yet. The row is created with
+     * an ignore-on-conflict insert and locked, so concurrent first reads queue
+     * up instead of colliding.
+     */
+    @Transactional
+    public UserStatistics refresh(User user) {
+        Long userId = user.getId();
+        userStatisticsRepository.insertIfAbsent(userId);
+        userStatisticsRepository.lockRow(userId);
+        UserStatistics statistics = userStatisticsRepository.findById(userId)
+                .orElseThrow(() -> new IllegalStateException("Statistics row missing for user " + userId));
+        statistics.setUser(user);
+        statistics.setCreatedTasks(userRepository.countTasksByUserId(userId));
+        statistics.setCompletedTasks(userRepository.countTasksByUserIdAndStatus(userId, TaskStatus.COMPLETED));
+        statistics.setCancelledTasks(userRepository.countTasksByUserIdAndStatus(userId, TaskStatus.CANCELLED));
+        statistics.setParticipatedTasks(
+                userRepository.countParticipationsByUserIdAndStatus(userId, ParticipationStatus.COMPLETED));
+        statistics.setVolunteersHelped(userRepository.countVolunteersHelpedByUserId(userId));
+        return userStatisticsRepository.save(statistics);
+    }
+
+    @Transactional
+    public int rebuild() {
+        userStatisticsRepository.deleteAllRows();
+        int rows = userStatisticsRepository.insertFromSource();
+        log.info("Rebuilt statistics for {} users", rows);
+        return rows;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskCreated(Long creatorId) {
+        userStatisticsRepository.addCreatorCounts(creatorId, 1, 0, 0);
+    }
+
+    /**
+     * Call after the participations have been moved to the task's new status.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskStatusChanged(Task task, TaskStatus previousStatus) {
+        TaskStatus status = task.getStatus();
+        long completed = delta(previousStatus, status, TaskStatus.COMPLETED);
+        long cancelled = delta(previousStatus, status, TaskStatus.CANCELLED);
+        if (completed != 0 || cancelled != 0) {
+            userStatisticsRepository.addCreatorCounts(task.getCreator().getId(), 0, completed, cancelled);
+        }
+        if (completed > 0) {
+            userStatisticsRepository.addParticipatedTasks(task.getId(), ParticipationStatus.COMPLETED, 1);
+        }
+    }
+
+    /**
+     * Call before the task and its participations are removed.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskDeleted(Task task) {
+        Long creatorId = task.getCreator().getId();
+        TaskStatus status = task.getStatus();
+        userStatisticsRepository.addCreatorCounts(creatorId, -1,
+                status == TaskStatus.COMPLETED ? -1 : 0,
+                status == TaskStatus.CANCELLED ? -1 : 0);
+        if (status == TaskStatus.COMPLETED) {
+            userStatisticsRepository.addParticipatedTasks(task.getId(), ParticipationStatus.COMPLETED, -1);
+        }
+        long onlyHere = userStatisticsRepository.countParticipantsOnlyIn(creatorId, task.getId());
+        if (onlyHere > 0) {
+            userStatisticsRepository.addVolunteersHelped(creatorId, -onlyHere);
+        }
+    }
+
+    /**
+     * The creator's row is locked before counting: two first joins of one
+     * volunteer to different tasks of the creator would otherwise both miss the
+     * other's uncommitted participation and count the volunteer twice.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void volunteersJoined(Long creatorId, Long taskId, Collection<Long> volunteerIds) {
+        userStatisticsRepository.lockRow(creatorId);
+        long firstTimeHelped = userStatisticsRepository.countVolunteersOnlyIn(creatorId, taskId, volunteerIds);
+        if (firstTimeHelped > 0) {
+            userStatisticsRepository.addVolunteersHelped(creatorId, firstTimeHelped);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void volunteersLeft(Long creatorId, Long taskId, Collection<Long> volunteerIds) {
+        userStatisticsRepository.lockRow(creatorId);
+        long noLongerHelped = userStatisticsRepository.countVolunteersOnlyIn(creatorId, taskId, volunteerIds);
+        if (noLongerHelped > 0) {
+            userStatisticsRepository.addVolunteersHelped(creatorId, -noLongerHelped);
+        }
+    }
+
+    private static long delta(TaskStatus previous, TaskStatus current, TaskStatus counted) {
+        return (current == counted ? 1 : 0) - (previous == counted ? 1 : 0);
+    }
+}
@@ -0,0 +1,273 @@
+package org.example.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.LeaderboardEntryResponse;
+import org.example.dto.VolunteerCompletionCount;
+import org.example.exception.BadRequestException;
+import org.example.model.LeaderboardMetric;
+import org.example.model.User;
+import org.example.repository.ParticipationRepository;
+import org.example.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Monthly volunteer rankings by completed participations and by distinct people
+ * helped. Boards for the current and previous month are loaded with one grouped
+ * query on startup and then moved by committed completions, so a request only
+ * reads the ranked top entries and looks up their users by id. Completions
+ * that bypass the event, such as participations removed with their task, are
+ * picked up by the periodic re-sync.
+ */
+@Component
+@Slf4j
+public class VolunteerLeaderboard {
+
+    static final int RETAINED_MONTHS = 2;
+
+    private static final Comparator<Score> RANKING = Comparator.comparingLong(Score::score).reversed()
+            .thenComparing(Score::userId);
+
+    private final ParticipationRepository participationRepository;
+    private final UserRepository userRepository;
+    private final int capacity;
+
+    private final Map<YearMonth, PeriodBoard> boards = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Non-null while a rebuild runs; guarded by the write lock
+    private List<TaskCompletionEvent> pending;
+
+    public VolunteerLeaderboard(ParticipationRepository participationRepository, UserRepository userRepository,
+                                @Value("${app.leaderboard.size:100}") int capacity) {
+        this.participationRepository = participationRepository;
+        this.userRepository = userRepository;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Completions committed while the grouped query runs are buffered and
+     * replayed onto its result, so they are not lost when the new boards replace
+     * the old ones. A completion committed just before the query can be counted
+     * twice; the next re-sync corrects it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.leaderboard.resync-interval:PT15M}",
+               initialDelayString = "${app.leaderboard.resync-interval:PT15M}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<VolunteerCompletionCount> rows;
+        try {
+            rows = participationRepository.countCompletionsSince(oldestRetained().atDay(1).atStartOfDay());
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+        Map<YearMonth, PeriodBoard> loaded = new HashMap<>();
+        for (VolunteerCompletionCount row : rows) {
+            loaded.computeIfAbsent(YearMonth.of(row.year(), row.month()), period -> new PeriodBoard(capacity))
+                    .add(row.volunteerId(), row.creatorId(), row.completions());
+        }
+        lock.writeLock().lock();
+        try {
+            pending.forEach(event -> apply(loaded, event));
+            pending = null;
+            boards.clear();
+            boards.putAll(loaded);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded volunteer leaderboards for {} completions", rows.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskCompletion(TaskCompletionEvent event) {
+        if (event.completedAt() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(boards, event);
+            if (pending != null) {
+                pending.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page<LeaderboardEntryResponse> top(LeaderboardMetric metric, YearMonth period, Pageable pageable) {
+        if (period.isBefore(oldestRetained()) || period.isAfter(YearMonth.now())) {
+            throw new BadRequestException("Leaderboards are only kept for the current and previous month");
+        }
+
+        List<Score> ranked;
+        lock.readLock().lock();
+        try {
+            PeriodBoard board = boards.get(period);
+            ranked = board != null ? board.ranked(metric) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Score> page = ranked.subList(from, to);
+        Map<Long, User> users = userRepository.findAllById(page.stream().map(Score::userId).toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<LeaderboardEntryResponse> entries = new ArrayList<>(page.size());
+        for (int i = 0; i < page.size(); i++) {
+            Score score = page.get(i);
+            User user = users.get(score.userId());
+            entries.add(LeaderboardEntryResponse.builder()
+                    .rank(from + i + 1)
+                    .userId(score.userId())
+                    .username(user != null ? user.getUsername() : null)
+                    .fullName(user != null ? user.getFirstName() + " " + user.getLastName() : null)
+                    .score(score.score())
+                    .build());
+        }
+        return new PageImpl<>(entries, pageable, ranked.size());
+    }
+
+    private void apply(Map<YearMonth, PeriodBoard> target, TaskCompletionEvent event) {
+        YearMonth oldest = oldestRetained();
+        target.keySet().removeIf(retained -> retained.isBefore(oldest));
+        YearMonth period = YearMonth.from(event.completedAt());
+        if (period.isBefore(oldest)) {
+            return;
+        }
+        PeriodBoard board = target.computeIfAbsent(period, key -> new PeriodBoard(capacity));
+        event.volunteerIds().forEach(volunteerId -> board.add(volunteerId, event.creatorId(), event.delta()));
+    }
+
+    private static YearMonth oldestRetained() {
+        return YearMonth.now().minusMonths(RETAINED_MONTHS - 1);
+    }
+
+    /**
+     * Completions per volunteer and creator for one month; both rankings are
+     * derived from it so a revoked completion can be taken back exactly.
+     */
+    private static final class PeriodBoard {
+
+        private final Map<Long, Map<Long, Long>> completionsByCreator = new HashMap<>();
+        private final Map<LeaderboardMetric, TopScores> rankings = new EnumMap<>(LeaderboardMetric.class);
+
+        PeriodBoard(int capacity) {
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                rankings.put(metric, new TopScores(capacity));
+            }
+        }
+
+        void add(Long volunteerId, Long creatorId, long completions) {
+            Map<Long, Long> creators = completionsByCreator.computeIfAbsent(volunteerId, id -> new HashMap<>());
+            long before = creators.getOrDefault(creatorId, 0L);
+            long after = Math.max(0, before + completions);
+            if (after > 0) {
+                creators.put(creatorId, after);
+            } else {
+                creators.remove(creatorId);
+                if (creators.isEmpty()) {
+                    completionsByCreator.remove(volunteerId);
+                }
+            }
+
+            rankings.get(LeaderboardMetric.COMPLETED_TASKS).add(volunteerId, after - before);
+            long helped = (after > 0 ? 1 : 0) - (before > 0 ? 1 : 0);
+            if (helped != 0) {
+                rankings.get(LeaderboardMetric.PEOPLE_HELPED).add(volunteerId, helped);
+            }
+        }
+
+        List<Score> ranked(LeaderboardMetric metric) {
+            return rankings.get(metric).ranked();
+        }
+    }
+
+    /**
+     * Scores for every volunteer of the month plus the best {@code capacity} of
+     * them kept in rank order. A rising score can only push its owner into the
+     * top; a falling one inside the top re-selects it from all scores.
+     */
+    private static final class TopScores {
+
+        private final int capacity;
+        private final Map<Long, Long> scores = new HashMap<>();
+        private final TreeSet<Score> top = new TreeSet<>(RANKING);
+
+        TopScores(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void add(Long userId, long delta) {
+            if (delta == 0) {
+                return;
+            }
+            long before = scores.getOrDefault(userId, 0L);
+            long after = before + delta;
+            if (after > 0) {
+                scores.put(userId, after);
+            } else {
+                scores.remove(userId);
+            }
+
+            boolean wasTop = top.remove(new Score(userId, before));
+            if (delta < 0 && wasTop) {
+                reselect();
+            } else if (after > 0) {
+                top.add(new Score(userId, after));
+                if (top.size() > capacity) {
+                    top.pollLast();
+                }
+            }
+        }
+
+        List<Score> ranked() {
+            return List.copyOf(top);
+        }
+
+        private void reselect() {
+            top.clear();
+            scores.forEach((userId, score) -> {
+                top.add(new Score(userId, score));
+                if (top.size() > capacity) {
+                    top.pollLast();
+                }
+            });
+        }
+    }
+
+    private record Score(Long userId, long score) {
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.service;
+
+public record WaitlistChangedEvent(Long taskId, Long userId, Change change) {
+
+    public enum Change {
+        ENQUEUED, REMOVED, CLEARED
+    }
+
+    public static WaitlistChangedEvent enqueued(Long taskId, Long userId) {
+        return new WaitlistChangedEvent(taskId, userId, Change.ENQUEUED);
+    }
+
+    public static WaitlistChangedEvent removed(Long taskId, Long userId) {
+        return new WaitlistChangedEvent(taskId, userId, Change.REMOVED);
+    }
+
+    public static WaitlistChangedEvent cleared(Long taskId) {
+        return new WaitlistChangedEvent(taskId, null, Change.CLEARED);
+    }
+}
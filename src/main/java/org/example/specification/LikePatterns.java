@@ -0,0 +1,21 @@
+package org.example.specification;
+
+/**
+ * Builds LIKE patterns that match a user-supplied term literally: wildcards in
+ * the term are escaped with {@link #ESCAPE}, which the predicate must declare.
+ */
+final class LikePatterns {
+
+    static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    static String contains(String term) {
+        String escaped = term.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
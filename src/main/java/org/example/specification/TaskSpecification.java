@@ -0,0 +1,140 @@
+package org.example.specification;
+
+import org.example.geo.GeoHash;
+import org.example.model.Participation;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.util.TaskCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public class TaskSpecification {
+
+    /**
+     * Title and location are matched as lower(column) LIKE '%term%' with wildcards
+     * escaped; on PostgreSQL the pg_trgm GIN indexes serve terms of three or more
+     * characters.
+     */
+    public static Specification<Task> filterTasks(String title, String location, Long categoryId,
+                                                  TaskStatus status, LocalDateTime startDateFrom,
+                                                  LocalDateTime startDateTo) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (categoryId != null) {
+                predicates.add(criteriaBuilder.equal(root.get("category").get("id"), categoryId));
+            }
+
+            if (status != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), status));
+            }
+
+            if (startDateFrom != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("startDate"), startDateFrom));
+            }
+
+            if (startDateTo != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("startDate"), startDateTo));
+            }
+
+            if (title != null && !title.trim().isEmpty()) {
+                predicates.add(criteriaBuilder.like(
+                        criteriaBuilder.lower(root.get("title")),
+                        LikePatterns.contains(title),
+                        LikePatterns.ESCAPE
+                ));
+            }
+
+            if (location != null && !location.trim().isEmpty()) {
+                predicates.add(criteriaBuilder.like(
+                        criteriaBuilder.lower(root.get("location")),
+                        LikePatterns.contains(location),
+                        LikePatterns.ESCAPE
+                ));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Task> idIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, criteriaBuilder) -> status == null
+                ? criteriaBuilder.conjunction()
+                : criteriaBuilder.equal(root.get("status"), status);
+    }
+
+    /**
+     * Compares the freeSeats formula rather than the two columns so PostgreSQL can
+     * use the expression index on max_participants - current_participants.
+     */
+    public static Specification<Task> hasFreeSeats() {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get("freeSeats"), 0);
+    }
+
+    public static Specification<Task> createdBy(Long creatorId) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("creator").get("id"), creatorId);
+    }
+
+    public static Specification<Task> hasParticipant(Long userId) {
+        return (root, query, criteriaBuilder) -> {
+            Join<Task, Participation> participations = root.join("participations");
+            return criteriaBuilder.equal(participations.get("id").get("userId"), userId);
+        };
+    }
+
+    /**
+     * The leading {@code start_date >= ?} bound is implied by the OR but is what PostgreSQL turns
+     * into an index range condition on (start_date, id); without it every page scans
+     * the index from the beginning.
+     */
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(root.get("startDate"), cursor.startDate()),
+                    criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(root.get("startDate"), cursor.startDate()),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(root.get("startDate"), cursor.startDate()),
+                                    criteriaBuilder.greaterThan(root.get("id"), cursor.id())
+                            )
+                    )
+            );
+        };
+    }
+
+    /**
+     * Coarse spatial pre-filter: geohash prefixes use the B-tree index, the bounding
+     * box trims the cell corners. Exact distances are left to the caller.
+     */
+    public static Specification<Task> near(double latitude, double longitude, double radiusKm) {
+        return (root, query, criteriaBuilder) -> {
+            Set<String> cells = GeoHash.coveringCells(latitude, longitude, radiusKm);
+            Predicate[] prefixes = cells.stream()
+                    .map(cell -> criteriaBuilder.like(root.get("geohash"), cell + "%"))
+                    .toArray(Predicate[]::new);
+
+            double latDelta = radiusKm / GeoHash.KM_PER_DEGREE;
+            double lonDelta = radiusKm / (GeoHash.KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+            return criteriaBuilder.and(
+                    criteriaBuilder.or(prefixes),
+                    criteriaBuilder.between(root.get("latitude"), latitude - latDelta, latitude + latDelta),
+                    criteriaBuilder.between(root.get("longitude"), longitude - lonDelta, longitude + lonDelta)
+            );
+        };
+    }
+}
@@ -10,6 +10,11 @@ import java.util.List;
 
 public class UserSpecification {
 
+    /**
+     * Username and email are matched as lower(column) LIKE '%term%', which PostgreSQL
+     * serves from the pg_trgm GIN indexes once the term is at least three characters.
+     * Wildcards in the term are escaped, so it always matches literally.
+     */
     public static Specification<User> filterUsers(String username, String email, UserType userType, Boolean isActive) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -17,14 +22,16 @@ public class UserSpecification {
             if (username != null && !username.trim().isEmpty()) {
                 predicates.add(criteriaBuilder.like(
                         criteriaBuilder.lower(root.get("username")),
-                        "%" + username.toLowerCase() + "%"
+                        LikePatterns.contains(username),
+                        LikePatterns.ESCAPE
                 ));
             }
 
             if (email != null && !email.trim().isEmpty()) {
                 predicates.add(criteriaBuilder.like(
                         criteriaBuilder.lower(root.get("email")),
-                        "%" + email.toLowerCase() + "%"
+                        LikePatterns.contains(email),
+                        LikePatterns.ESCAPE
                 ));
             }
 
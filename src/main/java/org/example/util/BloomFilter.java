@@ -0,0 +1,75 @@
+package org.example.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. Never reports a false negative; the false
+ * positive rate stays near the configured one while the number of insertions is
+ * within the expected count. Adds and lookups are lock-free.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-Math.max(expectedInsertions, 1) * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.min((optimalBits + 63) / 64, Integer.MAX_VALUE / 64);
+        this.words = new AtomicLongArray(Math.max(wordCount, 1));
+        this.bitCount = words.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(expectedInsertions, 1) * ln2));
+    }
+
+    public void add(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            while (((current = words.get(word)) & mask) == 0
+                    && !words.compareAndSet(word, current, current | mask)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * FNV-1a over the UTF-16 code units followed by the MurmurHash3 finalizer, so
+     * both 32-bit halves are well mixed for double hashing.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -48,47 +48,50 @@ public class EntityMapper {
     }
 
     public TaskResponse toTaskResponse(Task task) {
-        return toTaskResponse(task, true);
+        return toTaskResponse(task, FieldSelection.ALL);
     }
     
-    public TaskResponse toTaskResponse(Task task, boolean includeCollections) {
+    /**
+     * Maps only the associations the selection asks for, so unrequested lazy
+     * collections are never initialised.
+     */
+    public TaskResponse toTaskResponse(Task task, FieldSelection fields) {
         TaskResponse.TaskResponseBuilder builder = TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .location(task.getLocation())
+                .latitude(task.getLatitude())
+                .longitude(task.getLongitude())
                 .startDate(task.getStartDate())
                 .endDate(task.getEndDate())
                 .maxParticipants(task.getMaxParticipants())
+                .currentParticipants(task.getCurrentParticipants())
                 .status(task.getStatus().name())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt());
                 
-        if (task.getCreator() != null) {
+        if (task.getCreator() != null && fields.includes("creator")) {
             builder.creator(toUserResponse(task.getCreator()));
         }
-        if (task.getCategory() != null) {
+        if (task.getCategory() != null && fields.includes("category")) {
             builder.category(toCategoryResponse(task.getCategory()));
         }
         
-        if (includeCollections) {
-            try {
-                builder.currentParticipants(task.getParticipants() != null ? task.getParticipants().size() : 0);
+        try {
+            if (fields.includes("participants")) {
                 builder.participants(task.getParticipants() != null ? 
                     task.getParticipants().stream()
                         .map(this::toUserResponse)
                         .collect(Collectors.toList()) : List.of());
+            }
+            if (fields.includes("imageUrls")) {
                 builder.imageUrls(task.getImages() != null ? 
                     task.getImages().stream()
                         .map(TaskImage::getImageUrl)
                         .collect(Collectors.toList()) : List.of());
-            } catch (Exception e) {
-                builder.currentParticipants(0);
-                builder.participants(List.of());
-                builder.imageUrls(List.of());
             }
-        } else {
-            builder.currentParticipants(0);
+        } catch (Exception e) {
             builder.participants(List.of());
             builder.imageUrls(List.of());
         }
@@ -0,0 +1,96 @@
+package org.example.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Small bounded in-process cache whose entries expire a fixed time after they
+ * were loaded. Meant for hot, cheap-to-recompute values where a short window of
+ * staleness is acceptable. At capacity the least recently used entry makes room,
+ * so an insert never scans the cache; expired entries are dropped when read.
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public ExpiringCache(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, Clock.systemUTC());
+    }
+
+    public ExpiringCache(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * The loader runs outside the lock, so concurrent misses on one key may each
+     * load it; the last one stored wins.
+     */
+    public V get(K key, Function<K, V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public V getIfPresent(K key) {
+        Instant now = clock.instant();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (!now.isBefore(entry.expiresAt())) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, clock.instant().plus(ttl));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+}
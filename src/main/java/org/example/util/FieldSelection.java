@@ -0,0 +1,50 @@
+package org.example.util;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parsed {@code fields=} parameter: comma-separated property paths such as
+ * {@code id,title,creator.username}. An empty selection means every field.
+ */
+public final class FieldSelection {
+
+    public static final FieldSelection ALL = new FieldSelection(Set.of());
+
+    private final Set<String> paths;
+
+    private FieldSelection(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        return new FieldSelection(Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public boolean isAll() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * A path is included when it was selected, lies under a selected path, or
+     * leads to one (the "creator" object is needed to render "creator.username").
+     */
+    public boolean includes(String path) {
+        if (isAll()) {
+            return true;
+        }
+        for (String selected : paths) {
+            if (selected.equals(path) || path.startsWith(selected + ".") || selected.startsWith(path + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.util;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Writes only the properties of a {@link FieldSelection}. Paths are relative to
+ * the outermost shaped DTO, so the same selection works for a single task, a
+ * page of tasks or a list wrapped in another response.
+ */
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "fieldSelection";
+
+    private final FieldSelection selection;
+
+    public FieldSelectionFilter(FieldSelection selection) {
+        this.selection = selection;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                 PropertyWriter writer) throws Exception {
+        if (selection.includes(path(gen, writer.getName()))) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    private static String path(JsonGenerator gen, String name) {
+        Deque<String> segments = new ArrayDeque<>();
+        segments.addFirst(name);
+        JsonStreamContext parent = gen.getOutputContext().getParent();
+        while (parent != null) {
+            if (parent.inArray()) {
+                parent = parent.getParent();
+                continue;
+            }
+            if (!parent.inObject() || !isShaped(parent.getCurrentValue())) {
+                break;
+            }
+            segments.addFirst(parent.getCurrentName());
+            parent = parent.getParent();
+        }
+        return String.join(".", segments);
+    }
+
+    private static boolean isShaped(Object value) {
+        return value != null && value.getClass().isAnnotationPresent(JsonFilter.class);
+    }
+}
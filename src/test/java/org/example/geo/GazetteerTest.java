@@ -0,0 +1,39 @@
+package org.example.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GazetteerTest {
+
+    private final Gazetteer gazetteer = new Gazetteer();
+    
+    @Test
+    void resolve_PrefersStreetOverCity() {
+        Optional<GeoPoint> point = gazetteer.resolve("Київ, супермаркет \"Сільпо\", вул. Хрещатик, 32");
+        
+        assertEquals(Optional.of(new GeoPoint(50.4474, 30.5225)), point);
+    }
+    
+    @Test
+    void resolve_MatchesInflectedDistrictName() {
+        Optional<GeoPoint> point = gazetteer.resolve("Київ, Печерський район");
+        
+        assertEquals(Optional.of(new GeoPoint(50.4270, 30.5480)), point);
+    }
+    
+    @Test
+    void resolve_FallsBackToCityForUnknownStreet() {
+        Optional<GeoPoint> point = gazetteer.resolve("Львів, вул. Невідома, 1");
+        
+        assertEquals(Optional.of(new GeoPoint(49.8397, 24.0297)), point);
+    }
+    
+    @Test
+    void resolve_UnknownPlace_ReturnsEmpty() {
+        assertTrue(gazetteer.resolve("Онлайн").isEmpty());
+        assertTrue(gazetteer.resolve(null).isEmpty());
+    }
+}
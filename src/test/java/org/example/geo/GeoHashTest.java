@@ -0,0 +1,42 @@
+package org.example.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoHashTest {
+
+    @Test
+    void encode_MatchesReferenceHash() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("u8vxn", GeoHash.encode(50.4501, 30.5234, 5));
+    }
+    
+    @Test
+    void coveringCells_ContainEveryPointInsideRadius() {
+        double latitude = 50.4474;
+        double longitude = 30.5225;
+        Set<String> cells = GeoHash.coveringCells(latitude, longitude, 3);
+        GeoPoint origin = new GeoPoint(latitude, longitude);
+        
+        for (int bearing = 0; bearing < 360; bearing += 15) {
+            double pointLat = latitude + 2.9 / GeoHash.KM_PER_DEGREE * Math.cos(Math.toRadians(bearing));
+            double pointLon = longitude + 2.9 / (GeoHash.KM_PER_DEGREE * Math.cos(Math.toRadians(latitude)))
+                    * Math.sin(Math.toRadians(bearing));
+            assertTrue(origin.distanceKm(pointLat, pointLon) <= 3);
+            
+            String hash = GeoHash.encode(pointLat, pointLon, GeoHash.MAX_PRECISION);
+            assertTrue(cells.stream().anyMatch(hash::startsWith), "No covering cell for bearing " + bearing);
+        }
+    }
+    
+    @Test
+    void distanceKm_UsesGreatCircleDistance() {
+        GeoPoint kyiv = new GeoPoint(50.4501, 30.5234);
+        
+        assertEquals(0.0, kyiv.distanceKm(50.4501, 30.5234), 1e-9);
+        assertEquals(468, kyiv.distanceKm(49.8397, 24.0297), 5);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.geo;
+
+import org.example.model.Task;
+import org.example.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskGeocoderTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private TaskGeocoder taskGeocoder;
+    
+    @BeforeEach
+    void setUp() {
+        taskGeocoder = new TaskGeocoder(new Gazetteer(), taskRepository, new TransactionTemplate(transactionManager), 2);
+    }
+    
+    @Test
+    void geocodeMissing_PagesByIdInSeparateTransactions() {
+        Task first = Task.builder().id(1L).location("Київ, вул. Хрещатик, 32").build();
+        Task second = Task.builder().id(2L).location("Онлайн").build();
+        Task third = Task.builder().id(5L).location("Львів").build();
+        when(taskRepository.findNotGeocodedAfter(0L, PageRequest.ofSize(2))).thenReturn(List.of(first, second));
+        when(taskRepository.findNotGeocodedAfter(2L, PageRequest.ofSize(2))).thenReturn(List.of(third));
+        
+        taskGeocoder.geocodeMissing();
+        
+        assertNotNull(first.getGeohash());
+        assertNotNull(third.getGeohash());
+        verify(transactionManager, times(2)).commit(any());
+    }
+    
+    @Test
+    void geocodeMissing_MarksUnresolvedTask() {
+        Task task = Task.builder().id(1L).location("Онлайн").build();
+        when(taskRepository.findNotGeocodedAfter(0L, PageRequest.ofSize(2))).thenReturn(List.of(task));
+        
+        taskGeocoder.geocodeMissing();
+        
+        assertNull(task.getGeohash());
+        assertNotNull(task.getGeocodeFailedAt());
+    }
+    
+    @Test
+    void geocode_ResolvedLocation_ClearsFailureMark() {
+        Task task = Task.builder().id(1L).location("Львів").geocodeFailedAt(LocalDateTime.now()).build();
+        
+        taskGeocoder.geocode(task, null, null);
+        
+        assertNotNull(task.getGeohash());
+        assertNull(task.getGeocodeFailedAt());
+    }
+}
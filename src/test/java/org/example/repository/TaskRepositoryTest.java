@@ -0,0 +1,300 @@
+package org.example.repository;
+
+import org.example.dto.TaskExportRow;
+import org.example.dto.TaskListItemResponse;
+import org.example.dto.TaskResponse;
+import org.example.model.Category;
+import org.example.model.Participation;
+import org.example.model.Task;
+import org.example.model.TaskImage;
+import org.example.model.TaskStatus;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.specification.TaskSpecification;
+import org.example.util.EntityMapper;
+import org.example.util.TaskCursor;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.example.repository.TaskRepositoryTest$RecordingStatementInspector"
+})
+@ActiveProfiles("test")
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    private final EntityMapper entityMapper = new EntityMapper();
+    
+    private User creator;
+    private User volunteer;
+    private Category category;
+    
+    @BeforeEach
+    void setUp() {
+        creator = entityManager.persist(user("creator1", "Олена", "Коваль", UserType.VULNERABLE));
+        volunteer = entityManager.persist(user("volunteer1", "Іван", "Петренко", UserType.VOLUNTEER));
+        category = entityManager.persist(Category.builder().name("Допомога літнім").build());
+    }
+    
+    @Test
+    void findListItemSlice_ProjectsFlatRowsWithParticipantCount() {
+        Task task = task("Покупки", "Київ, вул. Хрещатик, 32, " + "під'їзд 2, ".repeat(10), 0);
+        persistWithParticipants(task, volunteer);
+        entityManager.persist(task("Прибирання парку", "Київ, парк ім. Т.Шевченка", 1));
+        entityManager.flush();
+        entityManager.clear();
+        
+        Slice<TaskListItemResponse> slice = taskRepository.findListItemSlice(
+                TaskSpecification.filterTasks(null, null, category.getId(), TaskStatus.OPEN, null, null),
+                PageRequest.of(0, 1, Sort.by("startDate")));
+        
+        assertEquals(1, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+        TaskListItemResponse item = slice.getContent().get(0);
+        assertEquals("Покупки", item.getTitle());
+        assertEquals("Допомога літнім", item.getCategoryName());
+        assertEquals("Олена Коваль", item.getCreatorName());
+        assertEquals("OPEN", item.getStatus());
+        assertEquals(1, item.getCurrentParticipants());
+        assertEquals(5, item.getMaxParticipants());
+        assertTrue(item.getLocation().length() <= 80);
+        assertTrue(item.getLocation().endsWith("…"));
+    }
+    
+    @Test
+    void findTaskPage_PagesIdsInDatabaseAndFetchesParticipants() {
+        for (int i = 0; i < 5; i++) {
+            persistWithParticipants(task("Завдання " + i, "Київ", i), volunteer);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        Page<Task> page = taskRepository.findTaskPage(TaskSpecification.hasParticipant(volunteer.getId()),
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "startDate")));
+        
+        assertEquals(5, page.getTotalElements());
+        assertEquals(List.of("Завдання 2", "Завдання 1"), page.getContent().stream().map(Task::getTitle).toList());
+        page.getContent().forEach(task -> {
+            assertTrue(Hibernate.isInitialized(task.getParticipations()));
+            assertEquals(1, task.getParticipants().size());
+        });
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 100})
+    void findTaskPage_QueryCountDoesNotDependOnPageSize(int pageSize) {
+        User otherVolunteer = entityManager.persist(user("volunteer2", "Марія", "Шевчук", UserType.VOLUNTEER));
+        for (int i = 0; i < 120; i++) {
+            Task task = persistWithParticipants(task("Завдання " + i, "Київ", i % 30), volunteer, otherVolunteer);
+            entityManager.persist(TaskImage.builder().imageUrl("/images/" + i + ".jpg").task(task).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        Page<Task> page = taskRepository.findTaskPage(null, PageRequest.of(0, pageSize, Sort.by("startDate")));
+        List<TaskResponse> responses = page.getContent().stream()
+                .map(entityMapper::toTaskResponse)
+                .toList();
+        
+        assertEquals(pageSize, responses.size());
+        responses.forEach(response -> {
+            assertEquals(2, response.getCurrentParticipants());
+            assertEquals(1, response.getImageUrls().size());
+        });
+        // ids, tasks with creator and category, participants, images, count
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+    
+    @Test
+    void findListItemSlice_BreaksStartDateTiesById() {
+        LocalDateTime startDate = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        List<Long> ids = Stream.of("Покупки", "Прибирання парку", "Переїзд")
+                .map(title -> {
+                    Task task = task(title, "Київ", 0);
+                    task.setStartDate(startDate);
+                    return entityManager.persist(task).getId();
+                })
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+        
+        List<Long> paged = Stream.of(0, 1, 2)
+                .map(page -> taskRepository.findListItemSlice(null, PageRequest.of(page, 1, Sort.by("startDate")))
+                        .getContent().get(0).getId())
+                .toList();
+        
+        assertEquals(ids, paged);
+    }
+    
+    @Test
+    void findListItemSlice_MatchesTitleWildcardsLiterally() {
+        entityManager.persist(task("Знижка 50% на ліки", "Київ", 0));
+        entityManager.persist(task("500 гривень на ліки", "Київ", 1));
+        entityManager.persist(task("Збір_речей", "Київ", 2));
+        entityManager.persist(task("Збір речей", "Київ", 3));
+        entityManager.flush();
+        entityManager.clear();
+        
+        assertEquals(List.of("Знижка 50% на ліки"), titles(TaskSpecification.filterTasks("50%", null, null, null, null, null)));
+        assertEquals(List.of("Збір_речей"), titles(TaskSpecification.filterTasks("р_р", null, null, null, null, null)));
+    }
+    
+    @Test
+    void findListItemSlice_SeeksPastCursorWithIndexableLeadingBound() {
+        LocalDateTime startDate = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        Task first = task("Покупки", "Київ", 0);
+        Task second = task("Прибирання парку", "Київ", 0);
+        first.setStartDate(startDate);
+        second.setStartDate(startDate);
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.persist(task("Переїзд", "Київ", 1));
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.STATEMENTS.clear();
+        
+        Slice<TaskListItemResponse> slice = taskRepository.findListItemSlice(
+                TaskSpecification.after(new TaskCursor(startDate, first.getId())),
+                PageRequest.of(0, 10, Sort.by("startDate", "id")));
+        
+        assertEquals(List.of("Прибирання парку", "Переїзд"),
+                slice.getContent().stream().map(TaskListItemResponse::getTitle).toList());
+        // the redundant lower bound on start_date is what gives PostgreSQL an index range to seek into
+        assertTrue(RecordingStatementInspector.STATEMENTS.stream()
+                        .anyMatch(sql -> sql.matches("(?s).*start_date\\s*>=\\s*\\?\\s+and\\s.*")),
+                () -> "No seek bound in " + RecordingStatementInspector.STATEMENTS);
+    }
+    
+    @Test
+    void streamExportRows_StreamsFlatRowsInIdOrder() {
+        persistWithParticipants(task("Покупки", "Київ", 0), volunteer);
+        entityManager.persist(task("Прибирання парку", "Київ", 1));
+        entityManager.flush();
+        entityManager.clear();
+        
+        List<TaskExportRow> rows;
+        try (Stream<TaskExportRow> stream = taskRepository.streamExportRows()) {
+            rows = stream.toList();
+        }
+        
+        assertEquals(List.of("Покупки", "Прибирання парку"), rows.stream().map(TaskExportRow::title).toList());
+        assertEquals(1, rows.get(0).currentParticipants());
+        assertEquals("creator1", rows.get(0).creator());
+        assertEquals("Допомога літнім", rows.get(0).category());
+    }
+    
+    @Test
+    void claimSeat_FillsTasksWhichHasFreeSeatsThenExcludes() {
+        Task roomy = task("Покупки", "Київ", 0);
+        Task almostFull = task("Прибирання парку", "Київ", 1);
+        Task full = task("Переїзд", "Київ", 2);
+        entityManager.persist(roomy);
+        entityManager.persist(almostFull);
+        entityManager.persist(full);
+        entityManager.flush();
+        for (int i = 0; i < 4; i++) {
+            taskRepository.claimSeat(almostFull.getId());
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, taskRepository.claimSeat(full.getId()));
+        }
+        assertEquals(0, taskRepository.claimSeat(full.getId()));
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(full.getId()).orElseThrow().getStatus());
+        taskRepository.releaseSeat(full.getId());
+        assertEquals(TaskStatus.OPEN, taskRepository.findById(full.getId()).orElseThrow().getStatus());
+        taskRepository.claimSeat(full.getId());
+        entityManager.clear();
+        
+        Slice<TaskListItemResponse> slice = taskRepository.findListItemSlice(TaskSpecification.hasFreeSeats(),
+                PageRequest.of(0, 10, Sort.by("freeSeats", "id")));
+        
+        assertEquals(List.of("Прибирання парку", "Покупки"),
+                slice.getContent().stream().map(TaskListItemResponse::getTitle).toList());
+        assertEquals(4, slice.getContent().get(0).getCurrentParticipants());
+        assertEquals(5, taskRepository.countParticipantsByTaskId(full.getId()));
+    }
+    
+    private List<String> titles(Specification<Task> spec) {
+        return taskRepository.findListItemSlice(spec, PageRequest.of(0, 10, Sort.by("startDate"))).getContent().stream()
+                .map(TaskListItemResponse::getTitle)
+                .toList();
+    }
+    
+    private Task persistWithParticipants(Task task, User... participants) {
+        task.setCurrentParticipants(participants.length);
+        entityManager.persist(task);
+        for (User participant : participants) {
+            entityManager.persist(Participation.of(task, participant));
+        }
+        return task;
+    }
+    
+    private Task task(String title, String location, int daysFromNow) {
+        return Task.builder()
+                .title(title)
+                .description("Опис завдання")
+                .location(location)
+                .startDate(LocalDateTime.now().plusDays(daysFromNow + 1))
+                .maxParticipants(5)
+                .status(TaskStatus.OPEN)
+                .creator(creator)
+                .category(category)
+                .build();
+    }
+    
+    private User user(String username, String firstName, String lastName, UserType userType) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .firstName(firstName)
+                .lastName(lastName)
+                .userType(userType)
+                .build();
+    }
+    
+    public static class RecordingStatementInspector implements StatementInspector {
+        
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
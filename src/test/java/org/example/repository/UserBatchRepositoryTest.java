@@ -0,0 +1,68 @@
+package org.example.repository;
+
+import org.example.model.User;
+import org.example.model.UserType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(UserBatchRepository.class)
+class UserBatchRepositoryTest {
+
+    @Autowired
+    private UserBatchRepository userBatchRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private UserStatisticsRepository userStatisticsRepository;
+    
+    @Test
+    void insertAll_InsertsUsersWithStatisticsAcrossBatches() {
+        int count = UserBatchRepository.BATCH_SIZE + 3;
+        List<User> users = IntStream.range(0, count)
+                .mapToObj(i -> user("volunteer" + i, "volunteer" + i + "@example.com"))
+                .toList();
+        
+        assertEquals(count, userBatchRepository.insertAll(users));
+        
+        User saved = userRepository.findByUsername("volunteer" + (count - 1)).orElseThrow();
+        assertTrue(saved.getIsActive());
+        assertNotNull(saved.getDateJoined());
+        assertEquals(count, userStatisticsRepository.count());
+        assertEquals(0L, userStatisticsRepository.findById(saved.getId()).orElseThrow().getCreatedTasks());
+        assertEquals(List.of("volunteer1"), userBatchRepository.findExistingUsernames(List.of("volunteer1", "newcomer")));
+    }
+    
+    @Test
+    void insertAll_DuplicateEmailNamesConstraint() {
+        userBatchRepository.insertAll(List.of(user("volunteer1", "shared@example.com")));
+        
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> userBatchRepository.insertAll(List.of(user("volunteer2", "shared@example.com"))));
+        
+        assertTrue(exception.getMostSpecificCause().getMessage().toLowerCase().contains(User.EMAIL_CONSTRAINT));
+    }
+    
+    private static User user(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("$2a$10$hash")
+                .firstName("Олена")
+                .lastName("Коваль")
+                .userType(UserType.VOLUNTEER)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.repository;
+
+import org.example.model.Category;
+import org.example.model.Participation;
+import org.example.model.ParticipationStatus;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.model.User;
+import org.example.model.UserStatistics;
+import org.example.model.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:statistics;MODE=PostgreSQL")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserStatisticsRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private UserStatisticsRepository userStatisticsRepository;
+    
+    private User creator;
+    private User volunteer;
+    private User otherVolunteer;
+    private Task completed;
+    private Task open;
+    
+    @BeforeEach
+    void setUp() {
+        creator = entityManager.persist(user("creator1", UserType.VULNERABLE));
+        volunteer = entityManager.persist(user("volunteer1", UserType.VOLUNTEER));
+        otherVolunteer = entityManager.persist(user("volunteer2", UserType.VOLUNTEER));
+        Category category = entityManager.persist(Category.builder().name("Допомога літнім").build());
+        
+        completed = entityManager.persist(task("Покупки", TaskStatus.COMPLETED, category));
+        open = entityManager.persist(task("Прибирання парку", TaskStatus.OPEN, category));
+        participate(completed, volunteer, ParticipationStatus.COMPLETED);
+        participate(completed, otherVolunteer, ParticipationStatus.COMPLETED);
+        participate(open, volunteer, ParticipationStatus.ACTIVE);
+        entityManager.flush();
+    }
+    
+    @Test
+    void insertFromSource_CountsEveryUser() {
+        assertEquals(3, userStatisticsRepository.insertFromSource());
+        entityManager.clear();
+        
+        UserStatistics creatorStatistics = userStatisticsRepository.findWithUserByUsername("creator1").orElseThrow();
+        assertEquals(2L, creatorStatistics.getCreatedTasks());
+        assertEquals(1L, creatorStatistics.getCompletedTasks());
+        assertEquals(0L, creatorStatistics.getCancelledTasks());
+        assertEquals(2L, creatorStatistics.getVolunteersHelped());
+        assertEquals(1L, userStatisticsRepository.findById(volunteer.getId()).orElseThrow().getParticipatedTasks());
+        assertEquals(1L, userStatisticsRepository.findById(otherVolunteer.getId()).orElseThrow().getParticipatedTasks());
+    }
+    
+    @Test
+    void countVolunteersOnlyIn_IgnoresVolunteersHelpedElsewhere() {
+        List<Long> volunteers = List.of(volunteer.getId(), otherVolunteer.getId());
+        
+        assertEquals(1, userStatisticsRepository.countVolunteersOnlyIn(creator.getId(), completed.getId(), volunteers));
+        assertEquals(0, userStatisticsRepository.countVolunteersOnlyIn(creator.getId(), open.getId(), volunteers));
+        assertEquals(1, userStatisticsRepository.countParticipantsOnlyIn(creator.getId(), completed.getId()));
+        assertEquals(0, userStatisticsRepository.countParticipantsOnlyIn(creator.getId(), open.getId()));
+    }
+    
+    @Test
+    void incrementalUpdates_AdjustExistingRows() {
+        userStatisticsRepository.insertFromSource();
+        
+        userStatisticsRepository.addCreatorCounts(creator.getId(), 1, 0, 1);
+        userStatisticsRepository.addVolunteersHelped(creator.getId(), -1);
+        assertEquals(2, userStatisticsRepository.addParticipatedTasks(completed.getId(), ParticipationStatus.COMPLETED, 1));
+        entityManager.clear();
+        
+        UserStatistics creatorStatistics = userStatisticsRepository.findById(creator.getId()).orElseThrow();
+        assertEquals(3L, creatorStatistics.getCreatedTasks());
+        assertEquals(1L, creatorStatistics.getCancelledTasks());
+        assertEquals(1L, creatorStatistics.getVolunteersHelped());
+        assertEquals(2L, userStatisticsRepository.findById(volunteer.getId()).orElseThrow().getParticipatedTasks());
+    }
+    
+    @Test
+    void insertIfAbsent_KeepsExistingRow() {
+        assertEquals(1, userStatisticsRepository.insertIfAbsent(creator.getId()));
+        userStatisticsRepository.addCreatorCounts(creator.getId(), 2, 0, 0);
+        
+        assertEquals(0, userStatisticsRepository.insertIfAbsent(creator.getId()));
+        entityManager.clear();
+        
+        assertEquals(2L, userStatisticsRepository.findById(creator.getId()).orElseThrow().getCreatedTasks());
+        assertEquals(creator.getId(), userStatisticsRepository.lockRow(creator.getId()).orElseThrow());
+        assertTrue(userStatisticsRepository.lockRow(volunteer.getId()).isEmpty());
+    }
+    
+    private void participate(Task task, User user, ParticipationStatus status) {
+        Participation participation = Participation.of(task, user);
+        participation.setStatus(status);
+        entityManager.persist(participation);
+    }
+    
+    private Task task(String title, TaskStatus status, Category category) {
+        return Task.builder()
+                .title(title)
+                .description("Опис завдання")
+                .location("Київ")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .maxParticipants(5)
+                .status(status)
+                .creator(creator)
+                .category(category)
+                .build();
+    }
+    
+    private User user(String username, UserType userType) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .firstName("Ім'я")
+                .lastName("Прізвище")
+                .userType(userType)
+                .build();
+    }
+}
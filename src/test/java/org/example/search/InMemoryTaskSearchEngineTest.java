@@ -0,0 +1,88 @@
+package org.example.search;
+
+import org.example.model.Task;
+import org.example.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryTaskSearchEngineTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+    
+    @InjectMocks
+    private InMemoryTaskSearchEngine searchEngine;
+    
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.findAll()).thenReturn(List.of(
+                task(1L, "Вигул собак у притулку", "Потребуємо волонтерів для вигулу собак."),
+                task(2L, "Допомога з покупками", "Допомогти донести продукти з магазину. Собака не кусається."),
+                task(3L, "Прибирання парку", "Збираємо сміття біля озера.")
+        ));
+        searchEngine.rebuild();
+    }
+    
+    @Test
+    void search_MatchesWordFormsByPrefixAndRanksTitleHigher() {
+        Page<TaskSearchHit> result = searchEngine.search(List.of("собак"), PageRequest.of(0, 10));
+        
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1L, result.getContent().get(0).taskId());
+        assertEquals(2L, result.getContent().get(1).taskId());
+        assertTrue(result.getContent().get(0).rank() > result.getContent().get(1).rank());
+        assertTrue(result.getContent().get(0).headline().contains("<b>собак</b>"));
+    }
+    
+    @Test
+    void search_EscapesTaskTextInHeadline() {
+        searchEngine.index(task(4L, "Гуртожиток <script>alert(1)</script>", "Фарбування & ремонт кімнат."));
+        
+        String headline = searchEngine.search(List.of("фарбування"), PageRequest.of(0, 10))
+                .getContent().get(0).headline();
+        
+        assertFalse(headline.contains("<script>"));
+        assertTrue(headline.contains("&lt;script&gt;"));
+        assertTrue(headline.contains("<b>Фарбування</b> &amp; ремонт"));
+    }
+    
+    @Test
+    void search_RequiresAllTerms() {
+        Page<TaskSearchHit> result = searchEngine.search(List.of("собак", "продукти"), PageRequest.of(0, 10));
+        
+        assertEquals(1, result.getTotalElements());
+        assertEquals(2L, result.getContent().get(0).taskId());
+    }
+    
+    @Test
+    void index_ReplacesPreviousContentAndRemoveDropsTask() {
+        searchEngine.index(task(3L, "Прибирання двору", "Потрібні граблі."));
+        
+        assertEquals(0, searchEngine.search(List.of("озера"), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, searchEngine.search(List.of("граблі"), PageRequest.of(0, 10)).getTotalElements());
+        
+        searchEngine.remove(3L);
+        
+        assertEquals(0, searchEngine.search(List.of("прибирання"), PageRequest.of(0, 10)).getTotalElements());
+    }
+    
+    private Task task(Long id, String title, String description) {
+        return Task.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .build();
+    }
+}
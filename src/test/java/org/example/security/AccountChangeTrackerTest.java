@@ -0,0 +1,42 @@
+package org.example.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.example.service.UserAccountChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountChangeTrackerTest {
+
+    private static final Instant CHANGED_AT = Instant.parse("2025-01-01T12:00:00.500Z");
+    
+    private final AccountChangeTracker tracker =
+            new AccountChangeTracker(Duration.ofMinutes(15), Clock.fixed(CHANGED_AT, ZoneOffset.UTC));
+    
+    @Test
+    void isIssuedBeforeChange_RefusesOlderTokensOfChangedUserOnly() {
+        tracker.onUserAccountChanged(new UserAccountChangedEvent("volunteer1"));
+        
+        assertTrue(tracker.isIssuedBeforeChange(claims("volunteer1", CHANGED_AT.minusSeconds(60))));
+        assertFalse(tracker.isIssuedBeforeChange(claims("volunteer1", CHANGED_AT.plusSeconds(1))));
+        assertFalse(tracker.isIssuedBeforeChange(claims("volunteer2", CHANGED_AT.minusSeconds(60))));
+    }
+    
+    @Test
+    void isIssuedBeforeChange_AcceptsTokenIssuedInTheSameSecond() {
+        tracker.onUserAccountChanged(new UserAccountChangedEvent("volunteer1"));
+        
+        assertFalse(tracker.isIssuedBeforeChange(claims("volunteer1", Instant.parse("2025-01-01T12:00:00Z"))));
+    }
+    
+    private static Claims claims(String username, Instant issuedAt) {
+        return Jwts.claims().subject(username).issuedAt(Date.from(issuedAt)).build();
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-coursework-testing-only-123456789";
+
+    private static final User VOLUNTEER = User.builder()
+            .id(7L)
+            .username("volunteer1")
+            .userType(UserType.VOLUNTEER)
+            .build();
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60_000);
+    
+    @Test
+    void verify_ReturnsClaimsAndServesRepeatsFromCache() {
+        String token = tokenProvider.generateToken(VOLUNTEER);
+        
+        Optional<Claims> first = tokenProvider.verify(token);
+        Optional<Claims> second = tokenProvider.verify(token);
+        
+        assertTrue(first.isPresent());
+        assertEquals("volunteer1", first.get().getSubject());
+        assertSame(first.get(), second.orElseThrow());
+        assertEquals("volunteer1", tokenProvider.getUsernameFromToken(token));
+    }
+    
+    @Test
+    void verify_RejectsTamperedAndForeignTokens() {
+        String token = tokenProvider.generateToken(VOLUNTEER);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String foreign = new JwtTokenProvider(SECRET.replace("test", "prod"), 60_000).generateToken(VOLUNTEER);
+        
+        assertTrue(tokenProvider.verify(tampered).isEmpty());
+        assertTrue(tokenProvider.verify(foreign).isEmpty());
+        assertTrue(tokenProvider.verify("not-a-jwt").isEmpty());
+        assertFalse(tokenProvider.validateToken(null));
+        assertThrows(JwtException.class, () -> tokenProvider.getUsernameFromToken(foreign));
+    }
+    
+    @Test
+    void verify_RejectsExpiredToken() {
+        String expired = new JwtTokenProvider(SECRET, -1_000).generateToken(VOLUNTEER);
+        
+        assertTrue(tokenProvider.verify(expired).isEmpty());
+    }
+    
+    @Test
+    void getPrincipal_RebuildsCallerFromClaims() {
+        Claims claims = tokenProvider.verify(tokenProvider.generateToken(VOLUNTEER)).orElseThrow();
+        
+        UserDetailsImpl principal = tokenProvider.getPrincipal(claims).orElseThrow();
+        
+        assertEquals(7L, principal.getId());
+        assertEquals("volunteer1", principal.getUsername());
+        assertEquals("ROLE_VOLUNTEER", principal.getAuthorities().iterator().next().getAuthority());
+        assertTrue(principal.isEnabled());
+        assertTrue(tokenProvider.getPrincipal(Jwts.claims().subject("volunteer1").build()).isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(meterRegistry, 1, 1);
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+    
+    @Test
+    void encode_RunsOnPoolAndRecordsLatency() {
+        String hash = executor.encode(() -> Thread.currentThread().getName());
+        
+        assertTrue(hash.startsWith("password-hash-"));
+        assertTrue(executor.matches(() -> true));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+    }
+    
+    @Test
+    void encodeAll_KeepsInputOrder() {
+        List<String> hashes = executor.encodeAll(List.of(() -> "first", () -> "second", () -> "third"));
+        
+        assertEquals(List.of("first", "second", "third"), hashes);
+        assertEquals(3, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+    }
+    
+    @Test
+    void encode_FailsFastOnceQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.encode(() -> {
+            started.countDown();
+            await(release);
+            return "running";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.encode(() -> "queued"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hash.queue").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        
+        assertThrows(ServiceUnavailableException.class, () -> executor.encode(() -> "rejected"));
+        assertEquals(1, meterRegistry.get("auth.password.hash.rejected").counter().count());
+        
+        release.countDown();
+        assertEquals("running", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.security;
+
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.service.UserAccountChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+    
+    private PrincipalCache principalCache;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userDetailsService, Duration.ofMinutes(1));
+        user = User.builder()
+                .id(1L)
+                .username("volunteer1")
+                .email("volunteer1@test.com")
+                .password("encoded")
+                .userType(UserType.VOLUNTEER)
+                .build();
+    }
+    
+    @Test
+    void get_LoadsPrincipalOnceWithinTtl() {
+        when(userDetailsService.loadUserByUsername("volunteer1")).thenReturn(UserDetailsImpl.build(user));
+        
+        UserDetails first = principalCache.get("volunteer1");
+        UserDetails second = principalCache.get("volunteer1");
+        
+        assertSame(first, second);
+        assertTrue(first.isEnabled());
+        assertEquals("ROLE_VOLUNTEER", first.getAuthorities().iterator().next().getAuthority());
+        verify(userDetailsService, times(1)).loadUserByUsername("volunteer1");
+    }
+    
+    @Test
+    void onUserAccountChanged_ReloadsDeactivatedUser() {
+        when(userDetailsService.loadUserByUsername("volunteer1")).thenReturn(UserDetailsImpl.build(user));
+        assertTrue(principalCache.get("volunteer1").isEnabled());
+        
+        user.setIsActive(false);
+        when(userDetailsService.loadUserByUsername("volunteer1")).thenReturn(UserDetailsImpl.build(user));
+        principalCache.onUserAccountChanged(new UserAccountChangedEvent("volunteer1"));
+        
+        assertFalse(principalCache.get("volunteer1").isEnabled());
+        verify(userDetailsService, times(2)).loadUserByUsername("volunteer1");
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.example.model.RevokedToken;
+import org.example.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    
+    @InjectMocks
+    private TokenRevocationStore revocationStore;
+    
+    @Test
+    void isRevoked_AnswersUnrevokedTokensWithoutTheTable() {
+        revocationStore.revoke(claims("revoked-jti", 60_000));
+        
+        assertFalse(revocationStore.isRevoked(claims("other-jti", 60_000)));
+        assertFalse(revocationStore.isRevoked(Jwts.claims().subject("volunteer1").build()));
+        verify(revokedTokenRepository, never()).existsById("other-jti");
+    }
+    
+    @Test
+    void isRevoked_ConfirmsFilterHitAgainstTable() {
+        Claims claims = claims("revoked-jti", 60_000);
+        when(revokedTokenRepository.existsById("revoked-jti")).thenReturn(false, true);
+        
+        revocationStore.revoke(claims);
+        
+        assertTrue(revocationStore.isRevoked(claims));
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+    
+    @Test
+    void revoke_IgnoresExpiredTokens() {
+        revocationStore.revoke(claims("expired-jti", -1_000));
+        
+        verifyNoInteractions(revokedTokenRepository);
+    }
+    
+    @Test
+    void rebuild_LoadsUnexpiredRevocations() {
+        Claims claims = claims("revoked-jti", 60_000);
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                new RevokedToken("revoked-jti", LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()))));
+        when(revokedTokenRepository.existsById("revoked-jti")).thenReturn(true);
+        
+        revocationStore.rebuild();
+        
+        assertTrue(revocationStore.isRevoked(claims));
+    }
+    
+    private Claims claims(String jti, long expiresInMs) {
+        return Jwts.claims()
+                .id(jti)
+                .subject("volunteer1")
+                .expiration(new Date(System.currentTimeMillis() + expiresInMs))
+                .build();
+    }
+}
@@ -6,12 +6,14 @@ import org.example.dto.UserRegistrationRequest;
 import org.example.exception.BadRequestException;
 import org.example.model.User;
 import org.example.model.UserType;
-import org.example.repository.UserRepository;
 import org.example.security.JwtTokenProvider;
+import org.example.security.TokenRevocationStore;
+import org.example.security.UserDetailsImpl;
 import org.example.util.EntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,8 +22,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -34,7 +34,7 @@ class AuthServiceTest {
     private AuthenticationManager authenticationManager;
 
     @Mock
-    private UserRepository userRepository;
+    private UserRegistrationService userRegistrationService;
 
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -44,6 +44,12 @@ class AuthServiceTest {
 
     @Mock
     private EntityMapper entityMapper;
+    
+    @Mock
+    private TokenRevocationStore revocationStore;
+    
+    @Mock
+    private RefreshTokenService refreshTokenService;
 
     @InjectMocks
     private AuthService authService;
@@ -81,29 +87,31 @@ class AuthServiceTest {
     }
 
     @Test
-    void register_Success() {
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+    void register_HashesBeforePersisting() {
         when(entityMapper.toUser(any(UserRegistrationRequest.class))).thenReturn(user);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
-        when(tokenProvider.generateToken(anyString())).thenReturn("jwt-token");
+        when(userRegistrationService.register(user))
+                .thenReturn(new UserRegistrationService.Registration(user, "refresh-token"));
+        when(tokenProvider.generateToken(user)).thenReturn("jwt-token");
 
         AuthResponse response = authService.register(registrationRequest);
 
         assertNotNull(response);
         assertEquals("jwt-token", response.getToken());
+        assertEquals("refresh-token", response.getRefreshToken());
         assertEquals("testuser", response.getUsername());
         assertEquals("test@example.com", response.getEmail());
         assertEquals("VOLUNTEER", response.getUserType());
 
-        verify(userRepository).save(any(User.class));
-        verify(passwordEncoder).encode("password123");
+        InOrder inOrder = inOrder(passwordEncoder, userRegistrationService);
+        inOrder.verify(passwordEncoder).encode("password123");
+        inOrder.verify(userRegistrationService).register(user);
     }
 
     @Test
     void register_UsernameTaken_ThrowsBadRequestException() {
-        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+        when(entityMapper.toUser(any(UserRegistrationRequest.class))).thenReturn(user);
+        when(userRegistrationService.register(user)).thenThrow(new BadRequestException("Username is already taken!"));
 
         BadRequestException exception = assertThrows(
                 BadRequestException.class, 
@@ -111,21 +119,7 @@ class AuthServiceTest {
         );
 
         assertEquals("Username is already taken!", exception.getMessage());
-        verify(userRepository, never()).save(any(User.class));
-    }
-
-    @Test
-    void register_EmailTaken_ThrowsBadRequestException() {
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
-
-        BadRequestException exception = assertThrows(
-                BadRequestException.class, 
-                () -> authService.register(registrationRequest)
-        );
-
-        assertEquals("Email is already in use!", exception.getMessage());
-        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(tokenProvider);
     }
 
     @Test
@@ -133,31 +127,32 @@ class AuthServiceTest {
         Authentication authentication = mock(Authentication.class);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(UserDetailsImpl.build(user));
         when(tokenProvider.generateToken(authentication)).thenReturn("jwt-token");
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(refreshTokenService.issue(1L)).thenReturn("refresh-token");
 
         AuthResponse response = authService.login(authRequest);
 
         assertNotNull(response);
         assertEquals("jwt-token", response.getToken());
+        assertEquals("refresh-token", response.getRefreshToken());
         assertEquals("testuser", response.getUsername());
         assertEquals("test@example.com", response.getEmail());
         assertEquals("VOLUNTEER", response.getUserType());
+        verifyNoInteractions(userRegistrationService);
     }
 
     @Test
-    void login_UserNotFound_ThrowsBadRequestException() {
-        Authentication authentication = mock(Authentication.class);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(tokenProvider.generateToken(authentication)).thenReturn("jwt-token");
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+    void refreshToken_MintsAccessTokenForRotatedUser() {
+        when(refreshTokenService.rotate("refresh-token"))
+                .thenReturn(new RefreshTokenService.Rotation(user, "next-refresh-token"));
+        when(tokenProvider.generateToken(user)).thenReturn("jwt-token");
 
-        BadRequestException exception = assertThrows(
-                BadRequestException.class, 
-                () -> authService.login(authRequest)
-        );
+        AuthResponse response = authService.refreshToken("refresh-token");
 
-        assertEquals("User not found", exception.getMessage());
+        assertEquals("jwt-token", response.getToken());
+        assertEquals("next-refresh-token", response.getRefreshToken());
+        assertEquals("testuser", response.getUsername());
+        verifyNoInteractions(userRegistrationService);
     }
-}
\ No newline at end of file
+}
@@ -35,6 +35,9 @@ class CategoryServiceTest {
     @Mock
     private EntityMapper entityMapper;
     
+    @Mock
+    private CategoryTaskCounter categoryTaskCounter;
+    
     @InjectMocks
     private CategoryService categoryService;
     
@@ -79,13 +82,14 @@ class CategoryServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(categoryResponse, result.getContent().get(0));
         verify(categoryRepository).findAll(pageable);
+        verify(categoryRepository, never()).countTasksByCategoryId(any());
         verify(entityMapper).toCategoryResponse(category, 0L);
     }
     
     @Test
     void getCategoryById_Success() {
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
-        when(categoryRepository.countTasksByCategoryId(1L)).thenReturn(3L);
+        when(categoryTaskCounter.count(1L)).thenReturn(3L);
         when(entityMapper.toCategoryResponse(category, 3L)).thenReturn(categoryResponse);
         
         CategoryResponse result = categoryService.getCategoryById(1L);
@@ -94,7 +98,8 @@ class CategoryServiceTest {
         assertEquals(categoryResponse.getId(), result.getId());
         assertEquals(categoryResponse.getName(), result.getName());
         verify(categoryRepository).findById(1L);
-        verify(categoryRepository).countTasksByCategoryId(1L);
+        verify(categoryTaskCounter).count(1L);
+        verify(categoryRepository, never()).countTasksByCategoryId(any());
         verify(entityMapper).toCategoryResponse(category, 3L);
     }
     
@@ -109,7 +114,7 @@ class CategoryServiceTest {
         
         assertEquals("Category not found with id: 1", exception.getMessage());
         verify(categoryRepository).findById(1L);
-        verify(categoryRepository, never()).countTasksByCategoryId(any());
+        verify(categoryTaskCounter, never()).count(any());
         verify(entityMapper, never()).toCategoryResponse(any(), any());
     }
     
@@ -154,7 +159,7 @@ class CategoryServiceTest {
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
         when(categoryRepository.existsByName("Updated Category")).thenReturn(false);
         when(categoryRepository.save(category)).thenReturn(category);
-        when(categoryRepository.countTasksByCategoryId(1L)).thenReturn(2L);
+        when(categoryTaskCounter.count(1L)).thenReturn(2L);
         when(entityMapper.toCategoryResponse(category, 2L)).thenReturn(categoryResponse);
         
         CategoryResponse result = categoryService.updateCategory(1L, updateRequest);
@@ -164,7 +169,7 @@ class CategoryServiceTest {
         verify(categoryRepository).existsByName("Updated Category");
         verify(entityMapper).updateCategoryFromRequest(category, updateRequest);
         verify(categoryRepository).save(category);
-        verify(categoryRepository).countTasksByCategoryId(1L);
+        verify(categoryTaskCounter).count(1L);
         verify(entityMapper).toCategoryResponse(category, 2L);
     }
     
@@ -212,7 +217,7 @@ class CategoryServiceTest {
         
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
         when(categoryRepository.save(category)).thenReturn(category);
-        when(categoryRepository.countTasksByCategoryId(1L)).thenReturn(1L);
+        when(categoryTaskCounter.count(1L)).thenReturn(1L);
         when(entityMapper.toCategoryResponse(category, 1L)).thenReturn(categoryResponse);
         
         CategoryResponse result = categoryService.updateCategory(1L, updateRequest);
@@ -222,7 +227,7 @@ class CategoryServiceTest {
         verify(categoryRepository, never()).existsByName(any()); // Should not check for existing name
         verify(entityMapper).updateCategoryFromRequest(category, updateRequest);
         verify(categoryRepository).save(category);
-        verify(categoryRepository).countTasksByCategoryId(1L);
+        verify(categoryTaskCounter).count(1L);
         verify(entityMapper).toCategoryResponse(category, 1L);
     }
     
@@ -0,0 +1,84 @@
+package org.example.service;
+
+import org.example.dto.CategoryTaskCount;
+import org.example.model.Category;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTaskCounterTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+    
+    @InjectMocks
+    private CategoryTaskCounter categoryTaskCounter;
+    
+    private Category category;
+    
+    @BeforeEach
+    void setUp() {
+        category = Category.builder().id(1L).name("Допомога літнім").build();
+        when(categoryRepository.countTasksGroupedByCategoryAndStatus()).thenReturn(List.of(
+                new CategoryTaskCount(1L, TaskStatus.OPEN, 3),
+                new CategoryTaskCount(1L, TaskStatus.COMPLETED, 2),
+                new CategoryTaskCount(2L, TaskStatus.OPEN, 1)));
+        categoryTaskCounter.rebuild();
+    }
+    
+    @Test
+    void count_ServesTotalsFromGroupedQuery() {
+        assertEquals(5, categoryTaskCounter.count(1L));
+        assertEquals(1, categoryTaskCounter.count(2L));
+        assertEquals(0, categoryTaskCounter.count(3L));
+        assertEquals(2L, categoryTaskCounter.countByStatus(1L).get(TaskStatus.COMPLETED));
+        verify(categoryRepository, times(1)).countTasksGroupedByCategoryAndStatus();
+    }
+    
+    @Test
+    void onTaskChanged_MovesCountsBetweenCategoriesAndStatuses() {
+        Task task = Task.builder().id(10L).category(category).status(TaskStatus.OPEN).build();
+        
+        categoryTaskCounter.onTaskChanged(TaskChangedEvent.created(task));
+        assertEquals(4L, categoryTaskCounter.countByStatus(1L).get(TaskStatus.OPEN));
+        
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        categoryTaskCounter.onTaskChanged(TaskChangedEvent.updated(task, 1L, TaskStatus.OPEN));
+        assertEquals(3L, categoryTaskCounter.countByStatus(1L).get(TaskStatus.OPEN));
+        assertEquals(1L, categoryTaskCounter.countByStatus(1L).get(TaskStatus.IN_PROGRESS));
+        
+        task.setCategory(Category.builder().id(2L).build());
+        categoryTaskCounter.onTaskChanged(TaskChangedEvent.updated(task, 1L, TaskStatus.IN_PROGRESS));
+        assertEquals(5, categoryTaskCounter.count(1L));
+        assertEquals(2, categoryTaskCounter.count(2L));
+        
+        categoryTaskCounter.onTaskChanged(TaskChangedEvent.deleted(task));
+        assertEquals(1, categoryTaskCounter.count(2L));
+    }
+    
+    @Test
+    void rebuild_ReplaysChangesCommittedDuringTheQuery() {
+        Task task = Task.builder().id(10L).category(category).status(TaskStatus.OPEN).build();
+        when(categoryRepository.countTasksGroupedByCategoryAndStatus()).thenAnswer(invocation -> {
+            categoryTaskCounter.onTaskChanged(TaskChangedEvent.created(task));
+            return List.of(new CategoryTaskCount(1L, TaskStatus.OPEN, 3));
+        });
+        
+        categoryTaskCounter.rebuild();
+        
+        assertEquals(4L, categoryTaskCounter.countByStatus(1L).get(TaskStatus.OPEN));
+        assertEquals(0, categoryTaskCounter.count(2L));
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.service;
+
+import org.example.exception.BadRequestException;
+import org.example.model.RefreshToken;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.repository.RefreshTokenRepository;
+import org.example.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private RefreshTokenService refreshTokenService;
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, userRepository, 60_000);
+        user = User.builder()
+                .id(1L)
+                .username("volunteer1")
+                .userType(UserType.VOLUNTEER)
+                .isActive(true)
+                .build();
+    }
+    
+    @Test
+    void issue_StoresOnlyHashOfToken() {
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        
+        String rawToken = refreshTokenService.issue(1L);
+        
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(RefreshTokenService.hash(rawToken), saved.getValue().getTokenHash());
+        assertNotEquals(rawToken, saved.getValue().getTokenHash());
+        assertNotNull(saved.getValue().getFamilyId());
+    }
+    
+    @Test
+    void rotate_IssuesSuccessorInSameFamily() {
+        RefreshToken stored = stored(LocalDateTime.now().plusMinutes(1));
+        when(refreshTokenRepository.findWithUserByTokenHash(RefreshTokenService.hash("raw-token")))
+                .thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(5L), any(LocalDateTime.class))).thenReturn(1);
+        
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("raw-token");
+        
+        assertSame(user, rotation.user());
+        assertNotEquals("raw-token", rotation.refreshToken());
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("family-1", saved.getValue().getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+    
+    @Test
+    void rotate_ReusedTokenRevokesFamily() {
+        when(refreshTokenRepository.findWithUserByTokenHash(RefreshTokenService.hash("raw-token")))
+                .thenReturn(Optional.of(stored(LocalDateTime.now().plusMinutes(1))));
+        when(refreshTokenRepository.markUsed(eq(5L), any(LocalDateTime.class))).thenReturn(0);
+        
+        assertThrows(BadRequestException.class, () -> refreshTokenService.rotate("raw-token"));
+        
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+    
+    @Test
+    void rotate_RejectsExpiredAndUnknownTokens() {
+        when(refreshTokenRepository.findWithUserByTokenHash(RefreshTokenService.hash("expired-token")))
+                .thenReturn(Optional.of(stored(LocalDateTime.now().minusMinutes(1))));
+        when(refreshTokenRepository.findWithUserByTokenHash(RefreshTokenService.hash("unknown-token")))
+                .thenReturn(Optional.empty());
+        
+        assertThrows(BadRequestException.class, () -> refreshTokenService.rotate("expired-token"));
+        assertThrows(BadRequestException.class, () -> refreshTokenService.rotate("unknown-token"));
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+    }
+    
+    private RefreshToken stored(LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .id(5L)
+                .tokenHash("hash")
+                .familyId("family-1")
+                .user(user)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.dto.TaskExportFormat;
+import org.example.dto.TaskExportRow;
+import org.example.exception.BadRequestException;
+import org.example.model.TaskStatus;
+import org.example.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+    
+    private TaskExportService taskExportService;
+    private TaskExportRow row;
+    
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskExportService = new TaskExportService(taskRepository, objectMapper);
+        
+        LocalDateTime startDate = LocalDateTime.of(2030, 5, 1, 10, 0);
+        row = new TaskExportRow(1L, "Покупки, ліки", "Купити \"Аспірин\"\nі хліб", "Київ, вул. Хрещатик, 32",
+                50.4474, 30.5225, startDate, null, TaskStatus.OPEN, 3, 1, "Допомога", "creator1",
+                startDate.minusDays(2), null);
+    }
+    
+    @Test
+    void exportTasks_Csv_QuotesFieldsWithSeparators() throws Exception {
+        when(taskRepository.streamExportRows()).thenReturn(Stream.of(row));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        long count = taskExportService.exportTasks(TaskExportFormat.CSV, out);
+        
+        assertEquals(1, count);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,title,description,"));
+        assertTrue(csv.contains("1,\"Покупки, ліки\",\"Купити \"\"Аспірин\"\"\nі хліб\",\"Київ, вул. Хрещатик, 32\",50.4474,"));
+        assertTrue(csv.contains(",2030-05-01T10:00,,OPEN,3,1,Допомога,creator1,"));
+    }
+    
+    @Test
+    void exportTasks_Ndjson_WritesOneObjectPerLine() throws Exception {
+        when(taskRepository.streamExportRows()).thenReturn(Stream.of(row, row));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        taskExportService.exportTasks(TaskExportFormat.NDJSON, out);
+        
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("Покупки, ліки", first.get("title").asText());
+        assertEquals("2030-05-01T10:00:00", first.get("startDate").asText());
+    }
+    
+    @Test
+    void exportFormat_Unknown_ThrowsBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> TaskExportFormat.from("xml"));
+        
+        assertEquals("Unsupported export format: xml", exception.getMessage());
+    }
+}
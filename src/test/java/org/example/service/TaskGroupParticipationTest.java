@@ -0,0 +1,115 @@
+package org.example.service;
+
+import org.example.exception.BadRequestException;
+import org.example.model.Category;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.repository.CategoryRepository;
+import org.example.repository.TaskRepository;
+import org.example.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class TaskGroupParticipationTest {
+
+    @Autowired
+    private TaskService taskService;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void joinTaskAsGroup_ReservesSeatsForWholeTeamOrNobody() {
+        User creator = userRepository.save(user("group-creator", UserType.VULNERABLE));
+        Category category = categoryRepository.save(Category.builder().name("Команди").build());
+        Task task = taskRepository.save(Task.builder()
+                .title("Розбір завалів")
+                .description("Потрібна команда")
+                .location("Харків")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .maxParticipants(3)
+                .creator(creator)
+                .category(category)
+                .build());
+        List<String> team = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            team.add(userRepository.save(user("group-volunteer" + i, UserType.VOLUNTEER)).getUsername());
+        }
+        
+        assertThrows(BadRequestException.class, () -> taskService.joinTaskAsGroup(task.getId(), team, team.get(0)));
+        assertEquals(0, taskService.getTaskParticipantsCount(task.getId()));
+        
+        taskService.joinTaskAsGroup(task.getId(), team.subList(0, 3), team.get(0));
+        Task full = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(3, full.getCurrentParticipants());
+        assertEquals(TaskStatus.IN_PROGRESS, full.getStatus());
+        
+        taskService.joinWaitlist(task.getId(), team.get(3));
+        taskService.leaveTaskAsGroup(task.getId(), team.subList(0, 2), team.get(1));
+        Task reloaded = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(2, reloaded.getCurrentParticipants());
+        assertEquals(TaskStatus.OPEN, reloaded.getStatus());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task_participants WHERE task_id = ?", Integer.class, task.getId()));
+    }
+    
+    @Test
+    void joinTaskAsGroup_CallerOutsideGroupCannotEnrollOthers() {
+        User creator = userRepository.save(user("group-outsider-creator", UserType.VULNERABLE));
+        Category category = categoryRepository.save(Category.builder().name("Сторонні").build());
+        Task task = taskRepository.save(Task.builder()
+                .title("Прибирання парку")
+                .description("Потрібні волонтери")
+                .location("Одеса")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .maxParticipants(3)
+                .creator(creator)
+                .category(category)
+                .build());
+        User member = userRepository.save(user("group-outsider-member", UserType.VOLUNTEER));
+        User outsider = userRepository.save(user("group-outsider", UserType.VOLUNTEER));
+        
+        assertThrows(AccessDeniedException.class,
+                () -> taskService.joinTaskAsGroup(task.getId(), List.of(member.getUsername()), outsider.getUsername()));
+        assertEquals(0, taskService.getTaskParticipantsCount(task.getId()));
+        
+        taskService.joinTask(task.getId(), member.getUsername());
+        assertThrows(AccessDeniedException.class,
+                () -> taskService.leaveTaskAsGroup(task.getId(), List.of(member.getUsername()), outsider.getUsername()));
+        assertTrue(taskService.isUserParticipant(task.getId(), member.getId()));
+    }
+    
+    private User user(String username, UserType userType) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .firstName("Тест")
+                .lastName("Користувач")
+                .userType(userType)
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.exception.BadRequestException;
+import org.example.model.Category;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.repository.CategoryRepository;
+import org.example.repository.TaskRepository;
+import org.example.repository.UserRepository;
+import org.example.search.TaskSearchEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Many volunteers race for the seats of one hot task. Every join goes through
+ * the real service and database; the run logs the join throughput.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class TaskJoinContentionTest {
+
+    private static final int THREADS = 16;
+    private static final int VOLUNTEERS = 400;
+    private static final int SEATS = 100;
+
+    @Autowired
+    private TaskService taskService;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private TaskSearchEngine taskSearchEngine;
+    
+    @Autowired
+    private CategoryTaskCounter categoryTaskCounter;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Task task;
+    private Category category;
+    
+    /**
+     * The joins commit on worker threads, so the rows are removed here rather
+     * than rolled back; the in-memory views are brought back in line as well.
+     */
+    @AfterEach
+    void tearDown() {
+        if (task != null) {
+            jdbcTemplate.update("DELETE FROM task_participants WHERE task_id = ?", task.getId());
+            jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", task.getId());
+            taskSearchEngine.remove(task.getId());
+        }
+        if (category != null) {
+            jdbcTemplate.update("DELETE FROM categories WHERE id = ?", category.getId());
+        }
+        jdbcTemplate.update("DELETE FROM user_statistics WHERE user_id IN " +
+                "(SELECT id FROM users WHERE username LIKE 'contention-%')");
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE 'contention-%'");
+        categoryTaskCounter.rebuild();
+    }
+    
+    @Test
+    void joinTask_ConcurrentVolunteersNeverOverbookHotTask() throws Exception {
+        User creator = userRepository.save(user("contention-creator", UserType.VULNERABLE));
+        category = categoryRepository.save(Category.builder().name("Контеншн").build());
+        task = taskRepository.save(Task.builder()
+                .title("Роздача гуманітарної допомоги")
+                .description("Потрібно багато волонтерів")
+                .location("Київ")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .maxParticipants(SEATS)
+                .creator(creator)
+                .category(category)
+                .build());
+        List<String> volunteers = new ArrayList<>();
+        for (int i = 0; i < VOLUNTEERS; i++) {
+            volunteers.add(userRepository.save(user("contention-volunteer" + i, UserType.VOLUNTEER)).getUsername());
+        }
+        
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (String username : volunteers) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    taskService.joinTask(task.getId(), username);
+                    joined.incrementAndGet();
+                } catch (BadRequestException e) {
+                    rejected.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                }
+                return null;
+            }));
+        }
+        
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        executor.shutdown();
+        
+        log.info("{} join attempts on one task with {} threads: {} joined, {} rejected, {} joins/s",
+                VOLUNTEERS, THREADS, joined.get(), rejected.get(), Math.round(VOLUNTEERS / seconds));
+        
+        assertTrue(failures.isEmpty(), () -> "Unexpected failures: " + failures);
+        assertEquals(SEATS, joined.get());
+        assertEquals(VOLUNTEERS - SEATS, rejected.get());
+        Task reloaded = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(SEATS, reloaded.getCurrentParticipants());
+        assertEquals(TaskStatus.IN_PROGRESS, reloaded.getStatus());
+        assertEquals(SEATS, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task_participants WHERE task_id = ?", Integer.class, task.getId()));
+    }
+    
+    private User user(String username, UserType userType) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .firstName("Тест")
+                .lastName("Користувач")
+                .userType(userType)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.service;
+
+import org.example.model.Task;
+import org.example.search.TaskSearchEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexerTest {
+
+    @Mock
+    private TaskSearchEngine taskSearchEngine;
+    
+    @InjectMocks
+    private TaskSearchIndexer taskSearchIndexer;
+    
+    @Test
+    void onTaskTextChanged_IndexesCommittedText() {
+        Task task = Task.builder().id(10L).title("Покупки").description("Купити ліки").build();
+        
+        taskSearchIndexer.onTaskTextChanged(TaskTextChangedEvent.indexed(task));
+        
+        ArgumentCaptor<Task> indexed = ArgumentCaptor.forClass(Task.class);
+        verify(taskSearchEngine).index(indexed.capture());
+        assertEquals(10L, indexed.getValue().getId());
+        assertEquals("Покупки", indexed.getValue().getTitle());
+        assertEquals("Купити ліки", indexed.getValue().getDescription());
+    }
+    
+    @Test
+    void onTaskTextChanged_RemovesDeletedTask() {
+        taskSearchIndexer.onTaskTextChanged(TaskTextChangedEvent.deleted(10L));
+        
+        verify(taskSearchEngine).remove(10L);
+        verify(taskSearchEngine, never()).index(any());
+    }
+}
@@ -1,34 +1,53 @@
 package org.example.service;
 
+import org.example.dto.CursorPage;
+import org.example.dto.NearbyTaskResponse;
+import org.example.dto.TaskListItemResponse;
 import org.example.dto.TaskRequest;
 import org.example.dto.TaskResponse;
+import org.example.dto.TaskSearchResponse;
 import org.example.exception.BadRequestException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.exception.UnauthorizedException;
+import org.example.geo.TaskGeocoder;
+import org.example.geo.TaskLocation;
 import org.example.model.*;
 import org.example.repository.CategoryRepository;
 import org.example.repository.TaskRepository;
 import org.example.repository.UserRepository;
+import org.example.repository.WaitlistEntryRepository;
+import org.example.search.TaskSearchEngine;
+import org.example.search.TaskSearchHit;
 import org.example.util.EntityMapper;
+import org.example.util.FieldSelection;
+import org.example.util.TaskCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +65,27 @@ class TaskServiceTest {
     @Mock
     private EntityMapper entityMapper;
     
+    @Mock
+    private TaskSearchEngine taskSearchEngine;
+    
+    @Mock
+    private TaskGeocoder taskGeocoder;
+    
+    @Mock
+    private TaskCountEstimator taskCountEstimator;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @Mock
+    private TaskWaitlist taskWaitlist;
+    
+    @Mock
+    private UserStatisticsService userStatisticsService;
+    
     @InjectMocks
     private TaskService taskService;
     
@@ -55,6 +95,7 @@ class TaskServiceTest {
     private Task task;
     private TaskRequest taskRequest;
     private TaskResponse taskResponse;
+    private TaskListItemResponse listItem;
     
     @BeforeEach
     void setUp() {
@@ -89,7 +130,6 @@ class TaskServiceTest {
                 .status(TaskStatus.OPEN)
                 .creator(vulnerable)
                 .category(category)
-                .participants(new HashSet<>())
                 .build();
         
         taskRequest = TaskRequest.builder()
@@ -111,20 +151,32 @@ class TaskServiceTest {
                 .currentParticipants(0)
                 .status("OPEN")
                 .build();
+        
+        listItem = TaskListItemResponse.builder()
+                .id(1L)
+                .title("Test Task")
+                .location("Test Location")
+                .startDate(task.getStartDate())
+                .status("OPEN")
+                .categoryName("Test Category")
+                .creatorName("Vulnerable User")
+                .currentParticipants(0)
+                .maxParticipants(5)
+                .build();
     }
     
     @Test
     void getTaskById_Success() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(entityMapper.toTaskResponse(task)).thenReturn(taskResponse);
+        when(entityMapper.toTaskResponse(task, FieldSelection.ALL)).thenReturn(taskResponse);
         
-        TaskResponse result = taskService.getTaskById(1L);
+        TaskResponse result = taskService.getTaskById(1L, FieldSelection.ALL);
         
         assertNotNull(result);
         assertEquals(taskResponse.getId(), result.getId());
         assertEquals(taskResponse.getTitle(), result.getTitle());
         verify(taskRepository).findById(1L);
-        verify(entityMapper).toTaskResponse(task);
+        verify(entityMapper).toTaskResponse(task, FieldSelection.ALL);
     }
     
     @Test
@@ -133,12 +185,12 @@ class TaskServiceTest {
         
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
-                () -> taskService.getTaskById(1L)
+                () -> taskService.getTaskById(1L, FieldSelection.ALL)
         );
         
         assertEquals("Task not found with id: 1", exception.getMessage());
         verify(taskRepository).findById(1L);
-        verify(entityMapper, never()).toTaskResponse(any());
+        verify(entityMapper, never()).toTaskResponse(any(), any());
     }
     
     @Test
@@ -156,6 +208,7 @@ class TaskServiceTest {
         verify(userRepository).findByUsername("vulnerable1");
         verify(categoryRepository).findById(1L);
         verify(taskRepository).save(any(Task.class));
+        verify(taskGeocoder).geocode(task, null, null);
     }
     
     @Test
@@ -204,15 +257,31 @@ class TaskServiceTest {
     void joinTask_Success() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
         when(userRepository.findByUsername("volunteer1")).thenReturn(Optional.of(volunteer));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.claimSeat(1L)).thenReturn(1);
         when(entityMapper.toTaskResponse(task)).thenReturn(taskResponse);
         
         TaskResponse result = taskService.joinTask(1L, "volunteer1");
         
         assertNotNull(result);
-        verify(taskRepository).findById(1L);
+        verify(taskRepository, times(2)).findById(1L);
         verify(userRepository).findByUsername("volunteer1");
-        verify(taskRepository).save(task);
+        verify(taskRepository).addParticipant(1L, volunteer.getId());
+        verify(taskRepository, never()).save(any());
+    }
+    
+    @Test
+    void joinTask_NoSeatLeft_ThrowsBadRequestException() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findByUsername("volunteer1")).thenReturn(Optional.of(volunteer));
+        when(taskRepository.claimSeat(1L)).thenReturn(0);
+        
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> taskService.joinTask(1L, "volunteer1")
+        );
+        
+        assertEquals("Task has reached maximum participants", exception.getMessage());
+        verify(taskRepository, never()).addParticipant(any(), any());
     }
     
     @Test
@@ -292,35 +361,293 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any());
     }
     
+    @Test
+    void leaveTask_PromotesFirstWaiterIntoReleasedSeat() {
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        User waiter = User.builder().id(7L).username("volunteer7").userType(UserType.VOLUNTEER).build();
+        WaitlistEntry entry = WaitlistEntry.builder().id(3L).task(task).user(waiter).build();
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findByUsername("volunteer1")).thenReturn(Optional.of(volunteer));
+        when(taskRepository.isUserParticipant(1L, 1L)).thenReturn(true);
+        when(taskRepository.removeParticipant(1L, 1L)).thenReturn(1);
+        when(waitlistEntryRepository.findFirstByTaskIdOrderByIdAsc(1L)).thenReturn(Optional.of(entry));
+        when(waitlistEntryRepository.deleteEntry(1L, 7L)).thenReturn(1);
+        when(taskRepository.claimSeat(1L)).thenReturn(1);
+        
+        taskService.leaveTask(1L, "volunteer1");
+        
+        InOrder inOrder = inOrder(taskRepository, waitlistEntryRepository);
+        inOrder.verify(taskRepository).releaseSeat(1L);
+        inOrder.verify(taskRepository).claimSeat(1L);
+        inOrder.verify(waitlistEntryRepository).deleteEntry(1L, 7L);
+        inOrder.verify(taskRepository).addParticipant(1L, 7L);
+        verify(eventPublisher).publishEvent(WaitlistChangedEvent.removed(1L, 7L));
+    }
+    
+    @Test
+    void leaveTask_SeatTakenConcurrently_KeepsWaiterQueued() {
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        User waiter = User.builder().id(7L).username("volunteer7").userType(UserType.VOLUNTEER).build();
+        WaitlistEntry entry = WaitlistEntry.builder().id(3L).task(task).user(waiter).build();
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findByUsername("volunteer1")).thenReturn(Optional.of(volunteer));
+        when(taskRepository.isUserParticipant(1L, 1L)).thenReturn(true);
+        when(taskRepository.removeParticipant(1L, 1L)).thenReturn(1);
+        when(waitlistEntryRepository.findFirstByTaskIdOrderByIdAsc(1L)).thenReturn(Optional.of(entry));
+        when(taskRepository.claimSeat(1L)).thenReturn(0);
+        
+        taskService.leaveTask(1L, "volunteer1");
+        
+        verify(waitlistEntryRepository, never()).deleteEntry(any(), any());
+        verify(taskRepository, never()).addParticipant(1L, 7L);
+        verify(eventPublisher, never()).publishEvent(WaitlistChangedEvent.removed(1L, 7L));
+    }
+    
+    @Test
+    void leaveTask_WaiterAlreadyParticipating_IsDroppedAndNextWaiterPromoted() {
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        User joined = User.builder().id(7L).username("volunteer7").userType(UserType.VOLUNTEER).build();
+        User waiter = User.builder().id(8L).username("volunteer8").userType(UserType.VOLUNTEER).build();
+        WaitlistEntry joinedEntry = WaitlistEntry.builder().id(3L).task(task).user(joined).build();
+        WaitlistEntry waiterEntry = WaitlistEntry.builder().id(4L).task(task).user(waiter).build();
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findByUsername("volunteer1")).thenReturn(Optional.of(volunteer));
+        when(taskRepository.isUserParticipant(1L, 1L)).thenReturn(true);
+        when(taskRepository.isUserParticipant(1L, 7L)).thenReturn(true);
+        when(taskRepository.removeParticipant(1L, 1L)).thenReturn(1);
+        when(waitlistEntryRepository.findFirstByTaskIdOrderByIdAsc(1L))
+                .thenReturn(Optional.of(joinedEntry), Optional.of(waiterEntry));
+        when(waitlistEntryRepository.deleteEntry(1L, 7L)).thenReturn(1);
+        when(waitlistEntryRepository.deleteEntry(1L, 8L)).thenReturn(1);
+        when(taskRepository.claimSeat(1L)).thenReturn(1);
+        
+        taskService.leaveTask(1L, "volunteer1");
+        
+        verify(taskRepository, never()).addParticipant(1L, 7L);
+        verify(taskRepository).addParticipant(1L, 8L);
+        verify(taskRepository, times(1)).claimSeat(1L);
+        verify(eventPublisher).publishEvent(WaitlistChangedEvent.removed(1L, 7L));
+        verify(eventPublisher).publishEvent(WaitlistChangedEvent.removed(1L, 8L));
+    }
+    
+    @Test
+    void joinWaitlist_TaskWithFreeSeats_ThrowsBadRequestException() {
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findByUsername("volunteer1")).thenReturn(Optional.of(volunteer));
+        
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> taskService.joinWaitlist(1L, "volunteer1")
+        );
+        
+        assertEquals("Task has free seats, join it directly", exception.getMessage());
+        verify(waitlistEntryRepository, never()).saveAndFlush(any());
+    }
+    
+    @Test
+    void joinTaskAsGroup_NotEnoughSeats_AddsNobody() {
+        User second = User.builder().id(5L).username("volunteer5").userType(UserType.VOLUNTEER).build();
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findByUsernameIn(Set.of("volunteer1", "volunteer5"))).thenReturn(List.of(volunteer, second));
+        when(taskRepository.findParticipantIds(1L, List.of(1L, 5L))).thenReturn(List.of());
+        when(taskRepository.claimSeats(1L, 2)).thenReturn(0);
+        
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> taskService.joinTaskAsGroup(1L, List.of("volunteer1", "volunteer5", "volunteer1"), "volunteer1")
+        );
+        
+        assertEquals("Task does not have 2 free seats", exception.getMessage());
+        verify(taskRepository, never()).addParticipants(any(), any());
+    }
+    
+    @Test
+    void joinTaskAsGroup_UnknownMember_ThrowsResourceNotFoundException() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findByUsernameIn(Set.of("volunteer1", "ghost"))).thenReturn(List.of(volunteer));
+        
+        ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> taskService.joinTaskAsGroup(1L, List.of("volunteer1", "ghost"), "volunteer1")
+        );
+        
+        assertEquals("Users not found: ghost", exception.getMessage());
+        verify(taskRepository, never()).claimSeats(any(), anyInt());
+    }
+    
+    @Test
+    void joinTaskAsGroup_CallerNotInGroup_ThrowsAccessDeniedException() {
+        AccessDeniedException exception = assertThrows(
+                AccessDeniedException.class,
+                () -> taskService.joinTaskAsGroup(1L, List.of("volunteer5", "volunteer6"), "volunteer1")
+        );
+        
+        assertEquals("You can only act for a group you belong to", exception.getMessage());
+        verify(taskRepository, never()).claimSeats(any(), anyInt());
+        verify(taskRepository, never()).addParticipants(any(), any());
+    }
+    
+    @Test
+    void leaveTaskAsGroup_CallerNotInGroup_ThrowsAccessDeniedException() {
+        assertThrows(
+                AccessDeniedException.class,
+                () -> taskService.leaveTaskAsGroup(1L, List.of("volunteer5"), "volunteer1")
+        );
+        
+        verify(taskRepository, never()).removeParticipants(any(), any());
+    }
+    
     @Test
     void getAllTasks_Success() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Slice<TaskListItemResponse> itemSlice = new SliceImpl<>(List.of(listItem), pageable, false);
         
-        when(taskRepository.findAll(pageable)).thenReturn(taskPage);
-        when(entityMapper.toTaskResponse(task)).thenReturn(taskResponse);
+        when(taskRepository.findListItemSlice(any(Specification.class), eq(pageable))).thenReturn(itemSlice);
         
-        Page<TaskResponse> result = taskService.getAllTasks(null, null, null, null, null, null, pageable);
+        Page<TaskListItemResponse> result = taskService.getAllTasks(null, null, 1L, TaskStatus.OPEN, null, null, false, pageable);
         
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        assertEquals(taskResponse, result.getContent().get(0));
-        verify(taskRepository).findAll(pageable);
+        assertEquals(listItem, result.getContent().get(0));
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verifyNoInteractions(entityMapper, taskCountEstimator);
+    }
+    
+    @Test
+    void getAllTasks_UsesCachedCountWhenMoreRowsFollow() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<TaskListItemResponse> itemSlice = new SliceImpl<>(List.of(listItem), pageable, true);
+        
+        when(taskRepository.findListItemSlice(any(Specification.class), eq(pageable))).thenReturn(itemSlice);
+        when(taskCountEstimator.count(eq("category=1;status=OPEN;"), any(Specification.class))).thenReturn(40L);
+        
+        Page<TaskListItemResponse> result = taskService.getAllTasks(null, null, 1L, TaskStatus.OPEN, null, null, false, pageable);
+        
+        assertEquals(40, result.getTotalElements());
+        assertTrue(result.hasNext());
+        verify(taskCountEstimator, never()).countAll();
+    }
+    
+    @Test
+    void getAllTasks_StaleEstimateNeverHidesNextPage() {
+        Pageable pageable = PageRequest.of(2, 1);
+        Slice<TaskListItemResponse> itemSlice = new SliceImpl<>(List.of(listItem), pageable, true);
+        
+        when(taskRepository.findListItemSlice(any(Specification.class), eq(pageable))).thenReturn(itemSlice);
+        when(taskCountEstimator.countAll()).thenReturn(1L);
+        
+        Page<TaskListItemResponse> result = taskService.getAllTasks(null, " ", null, null, null, null, false, pageable);
+        
+        assertEquals(4, result.getTotalElements());
+        assertTrue(result.hasNext());
+    }
+    
+    @Test
+    void scrollTasks_ReturnsNextCursorWhenMoreRowsExist() {
+        TaskListItemResponse nextItem = TaskListItemResponse.builder()
+                .id(2L)
+                .title("Next Task")
+                .startDate(listItem.getStartDate().plusHours(1))
+                .status("OPEN")
+                .build();
+        when(taskRepository.findListItems(any(Specification.class), eq(Sort.by("startDate", "id")), eq(2)))
+                .thenReturn(List.of(listItem, nextItem));
+        
+        CursorPage<TaskListItemResponse> result = taskService.scrollTasks(TaskStatus.OPEN, null, 1);
+        
+        assertTrue(result.isHasNext());
+        assertEquals(1, result.getSize());
+        assertEquals(List.of(listItem), result.getContent());
+        assertEquals(new TaskCursor(listItem.getStartDate(), 1L), TaskCursor.decode(result.getNextCursor()));
+        verify(taskRepository, never()).count(any(Specification.class));
+    }
+    
+    @Test
+    void scrollTasks_InvalidCursor_ThrowsBadRequestException() {
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> taskService.scrollTasks(null, "not-a-cursor", 20)
+        );
+        
+        assertEquals("Invalid cursor", exception.getMessage());
+        verify(taskRepository, never()).findListItems(any(Specification.class), any(Sort.class), anyInt());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void findNearbyTasks_ReturnsTasksWithinRadiusNearestFirst() {
+        TaskListItemResponse farItem = TaskListItemResponse.builder().id(2L).title("Far Task").build();
+        when(taskRepository.findLocations(any(Specification.class))).thenReturn(List.of(
+                new TaskLocation(3L, 50.4560, 30.4350),
+                new TaskLocation(2L, 50.4420, 30.5130),
+                new TaskLocation(1L, 50.4501, 30.5234)
+        ));
+        when(taskRepository.findListItems(any(Specification.class), eq(Sort.unsorted()), eq(2)))
+                .thenReturn(List.of(farItem, listItem));
+        
+        List<NearbyTaskResponse> result = taskService.findNearbyTasks(50.4474, 30.5225, 3, TaskStatus.OPEN, null, 20);
+        
+        assertEquals(2, result.size());
+        assertEquals(listItem, result.get(0).getTask());
+        assertEquals(farItem, result.get(1).getTask());
+        assertTrue(result.get(0).getDistanceKm() < result.get(1).getDistanceKm());
+    }
+    
+    @Test
+    void findNearbyTasks_RadiusTooLarge_ThrowsBadRequestException() {
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> taskService.findNearbyTasks(50.45, 30.52, 500, TaskStatus.OPEN, null, 20)
+        );
+        
+        assertEquals("Radius must be between 0 and 50 km", exception.getMessage());
+        verify(taskRepository, never()).findLocations(any());
+    }
+    
+    @Test
+    void searchTasks_ReturnsRankedTasksWithHeadlines() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskSearchHit hit = new TaskSearchHit(1L, 0.8, "<b>Test</b> Task");
+        when(taskSearchEngine.search(List.of("test", "task"), pageable))
+                .thenReturn(new PageImpl<>(List.of(hit), pageable, 1));
+        when(taskRepository.findListItems(any(Specification.class), eq(Sort.unsorted()), eq(1)))
+                .thenReturn(List.of(listItem));
+        
+        Page<TaskSearchResponse> result = taskService.searchTasks("Test task", pageable);
+        
+        assertEquals(1, result.getTotalElements());
+        assertEquals(listItem, result.getContent().get(0).getTask());
+        assertEquals(0.8, result.getContent().get(0).getRank());
+        assertEquals("<b>Test</b> Task", result.getContent().get(0).getHeadline());
+    }
+    
+    @Test
+    void searchTasks_BlankQuery_ThrowsBadRequestException() {
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> taskService.searchTasks(" ,. ", PageRequest.of(0, 10))
+        );
+        
+        assertEquals("Search query must not be empty", exception.getMessage());
+        verify(taskSearchEngine, never()).search(any(), any());
     }
     
     @Test
     void deleteTask_Success() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
         
         taskService.deleteTask(1L, "vulnerable1");
         
-        verify(taskRepository).findById(1L);
+        verify(taskRepository).findByIdForUpdate(1L);
         verify(taskRepository).delete(task);
     }
     
     @Test
     void deleteTask_NotOwner_ThrowsUnauthorizedException() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
         
         UnauthorizedException exception = assertThrows(
                 UnauthorizedException.class,
@@ -328,13 +655,13 @@ class TaskServiceTest {
         );
         
         assertEquals("You can only delete your own tasks", exception.getMessage());
-        verify(taskRepository, never()).delete(any());
+        verify(taskRepository, never()).delete(any(Task.class));
     }
     
     @Test
     void deleteTask_InProgress_ThrowsBadRequestException() {
         task.setStatus(TaskStatus.IN_PROGRESS);
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
         
         BadRequestException exception = assertThrows(
                 BadRequestException.class,
@@ -342,6 +669,6 @@ class TaskServiceTest {
         );
         
         assertEquals("Cannot delete task that is in progress", exception.getMessage());
-        verify(taskRepository, never()).delete(any());
+        verify(taskRepository, never()).delete(any(Task.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package org.example.service;
+
+import org.example.exception.ResourceNotFoundException;
+import org.example.model.Category;
+import org.example.model.ParticipationStatus;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.repository.CategoryRepository;
+import org.example.repository.TaskRepository;
+import org.example.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class TaskWaitlistTest {
+
+    @Autowired
+    private TaskService taskService;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Test
+    void leaveTask_HandsReleasedSeatToFirstWaiter() {
+        User creator = userRepository.save(user("waitlist-creator", UserType.VULNERABLE));
+        Category category = categoryRepository.save(Category.builder().name("Черга").build());
+        Task task = taskRepository.save(Task.builder()
+                .title("Супровід до лікаря")
+                .description("Одне місце")
+                .location("Львів")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .maxParticipants(1)
+                .creator(creator)
+                .category(category)
+                .build());
+        User first = userRepository.save(user("waitlist-volunteer1", UserType.VOLUNTEER));
+        User second = userRepository.save(user("waitlist-volunteer2", UserType.VOLUNTEER));
+        User third = userRepository.save(user("waitlist-volunteer3", UserType.VOLUNTEER));
+        
+        taskService.joinTask(task.getId(), first.getUsername());
+        assertEquals(1, taskService.joinWaitlist(task.getId(), second.getUsername()).getPosition());
+        assertEquals(2, taskService.joinWaitlist(task.getId(), third.getUsername()).getPosition());
+        
+        taskService.leaveTask(task.getId(), first.getUsername());
+        
+        assertTrue(taskService.isUserParticipant(task.getId(), second.getId()));
+        assertFalse(taskService.isUserParticipant(task.getId(), first.getId()));
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+        assertEquals(1, taskService.getWaitlistPosition(task.getId(), third.getUsername()).getPosition());
+        
+        taskService.completeTask(task.getId(), creator.getUsername());
+        assertEquals(1, userRepository.countParticipationsByUserIdAndStatus(second.getId(), ParticipationStatus.COMPLETED));
+    }
+    
+    @Test
+    void leaveTask_DropsWaiterWhoAlreadyJoinedDirectly() {
+        User creator = userRepository.save(user("waitlist-joined-creator", UserType.VULNERABLE));
+        Category category = categoryRepository.save(Category.builder().name("Черга двічі").build());
+        Task task = taskRepository.save(Task.builder()
+                .title("Доставка ліків")
+                .description("Одне місце")
+                .location("Дніпро")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .maxParticipants(1)
+                .creator(creator)
+                .category(category)
+                .build());
+        User first = userRepository.save(user("waitlist-joined-volunteer1", UserType.VOLUNTEER));
+        User second = userRepository.save(user("waitlist-joined-volunteer2", UserType.VOLUNTEER));
+        
+        taskService.joinTask(task.getId(), first.getUsername());
+        taskService.joinWaitlist(task.getId(), second.getUsername());
+        Task enlarged = taskRepository.findById(task.getId()).orElseThrow();
+        enlarged.setMaxParticipants(2);
+        enlarged.setStatus(TaskStatus.OPEN);
+        taskRepository.save(enlarged);
+        taskService.joinTask(task.getId(), second.getUsername());
+        
+        taskService.leaveTask(task.getId(), first.getUsername());
+        
+        assertTrue(taskService.isUserParticipant(task.getId(), second.getId()));
+        assertEquals(1, taskRepository.findById(task.getId()).orElseThrow().getCurrentParticipants());
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.getWaitlistPosition(task.getId(), second.getUsername()));
+    }
+    
+    private User user(String username, UserType userType) {
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("password")
+                .firstName("Тест")
+                .lastName("Користувач")
+                .userType(userType)
+                .build();
+    }
+}
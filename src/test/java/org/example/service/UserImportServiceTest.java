@@ -0,0 +1,110 @@
+package org.example.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.dto.UserImportResponse;
+import org.example.exception.BadRequestException;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.repository.UserBatchRepository;
+import org.example.security.BoundedPasswordEncoder;
+import org.example.util.EntityMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    private static final String HEADER = "username,email,password,firstName,lastName,userType,bio\n";
+
+    @Mock
+    private UserBatchRepository userBatchRepository;
+    
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+    
+    private UserImportService userImportService;
+    
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        userImportService = new UserImportService(userBatchRepository, passwordEncoder,
+                new EntityMapper(), validator);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void importUsers_InsertsValidRowsWithHashedPasswords() throws Exception {
+        when(userBatchRepository.findExistingUsernames(anyList())).thenReturn(List.of());
+        when(userBatchRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(passwordEncoder.encodeAll(List.of("password1", "password2"))).thenReturn(List.of("hash1", "hash2"));
+        when(userBatchRepository.insertAll(anyList())).thenAnswer(invocation -> ((List<User>) invocation.getArgument(0)).size());
+        
+        UserImportResponse response = userImportService.importUsers(csv(HEADER +
+                "volunteer1,v1@example.com,password1,Олена,Коваль,volunteer,\"Допомагаю з покупками, ліками\"\n" +
+                "senior1,s1@example.com,password2,Петро,Шевченко,VULNERABLE,\n"));
+        
+        assertEquals(2, response.getImported());
+        assertTrue(response.getErrors().isEmpty());
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        verify(userBatchRepository).insertAll(users.capture());
+        User first = users.getValue().get(0);
+        assertEquals("hash1", first.getPassword());
+        assertEquals(UserType.VOLUNTEER, first.getUserType());
+        assertEquals("Допомагаю з покупками, ліками", first.getBio());
+    }
+    
+    @Test
+    void importUsers_SkipsInvalidAndDuplicateRows() throws Exception {
+        when(userBatchRepository.findExistingUsernames(anyList())).thenReturn(List.of("taken1"));
+        when(userBatchRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(passwordEncoder.encodeAll(List.of("password1"))).thenReturn(List.of("hash1"));
+        when(userBatchRepository.insertAll(anyList())).thenReturn(1);
+        
+        UserImportResponse response = userImportService.importUsers(csv(HEADER +
+                "volunteer1,v1@example.com,password1,Олена,Коваль,VOLUNTEER,\n" +
+                "taken1,t1@example.com,password1,Іван,Мельник,VOLUNTEER,\n" +
+                "volunteer2,v1@example.com,password1,Марія,Бондар,VOLUNTEER,\n" +
+                "volunteer3,not-an-email,password1,Марія,Бондар,VOLUNTEER,\n" +
+                "volunteer4,v4@example.com,password1,Марія,Бондар,MANAGER,\n"));
+        
+        assertEquals(1, response.getImported());
+        assertEquals(4, response.getSkipped());
+        assertEquals(List.of(
+                "Row 2: Username is already taken!",
+                "Row 3: Email is already in use!",
+                "Row 4: Email should be valid",
+                "Row 5: Unknown user type MANAGER"), response.getErrors());
+    }
+    
+    @Test
+    void importUsers_RejectsFileWithoutRequiredColumns() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> userImportService.importUsers(csv("username,email\nvolunteer1,v1@example.com\n")));
+        
+        assertEquals("Missing CSV columns: password, firstName, lastName, userType", exception.getMessage());
+        verifyNoInteractions(passwordEncoder, userBatchRepository);
+    }
+    
+    @Test
+    void parseRecord_HandlesQuotedValues() {
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""), UserImportService.parseRecord("a,\"b, c\",\"say \"\"hi\"\"\","));
+    }
+    
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.service;
+
+import org.example.exception.BadRequestException;
+import org.example.model.User;
+import org.example.model.UserType;
+import org.example.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRegistrationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private UserStatisticsService userStatisticsService;
+    
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    
+    @InjectMocks
+    private UserRegistrationService userRegistrationService;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(1L)
+                .username("testuser")
+                .email("test@example.com")
+                .password("encodedPassword")
+                .firstName("Test")
+                .lastName("User")
+                .userType(UserType.VOLUNTEER)
+                .isActive(true)
+                .build();
+    }
+    
+    @Test
+    void register_SavesUserWithStatisticsAndRefreshToken() {
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
+        when(refreshTokenService.issue(1L)).thenReturn("refresh-token");
+        
+        UserRegistrationService.Registration registration = userRegistrationService.register(user);
+        
+        assertSame(user, registration.user());
+        assertEquals("refresh-token", registration.refreshToken());
+        verify(userStatisticsService).initialize(user);
+        verify(userRepository, never()).existsByUsername(anyString());
+    }
+    
+    @Test
+    void register_UsernameTaken_ThrowsBadRequestException() {
+        when(userRepository.saveAndFlush(user)).thenThrow(duplicate(User.USERNAME_CONSTRAINT));
+        
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> userRegistrationService.register(user)
+        );
+        
+        assertEquals("Username is already taken!", exception.getMessage());
+        verifyNoInteractions(userStatisticsService, refreshTokenService);
+    }
+    
+    @Test
+    void register_EmailTaken_ThrowsBadRequestException() {
+        when(userRepository.saveAndFlush(user)).thenThrow(duplicate("PUBLIC.UK_USERS_EMAIL_INDEX_4"));
+        
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> userRegistrationService.register(user)
+        );
+        
+        assertEquals("Email is already in use!", exception.getMessage());
+        verifyNoInteractions(userStatisticsService, refreshTokenService);
+    }
+    
+    private static DataIntegrityViolationException duplicate(String constraintName) {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), constraintName));
+    }
+}
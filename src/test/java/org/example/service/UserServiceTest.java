@@ -5,10 +5,11 @@ import org.example.dto.UserStatisticsResponse;
 import org.example.dto.UserUpdateRequest;
 import org.example.exception.BadRequestException;
 import org.example.exception.ResourceNotFoundException;
-import org.example.model.TaskStatus;
 import org.example.model.User;
+import org.example.model.UserStatistics;
 import org.example.model.UserType;
 import org.example.repository.UserRepository;
+import org.example.repository.UserStatisticsRepository;
 import org.example.util.EntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,10 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -29,6 +32,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +41,15 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private UserStatisticsRepository userStatisticsRepository;
+    
+    @Mock
+    private UserStatisticsService userStatisticsService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @Mock
     private EntityMapper entityMapper;
     
@@ -101,7 +114,7 @@ class UserServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<User> userPage = new PageImpl<>(List.of(user));
         
-        when(userRepository.findAll(pageable)).thenReturn(userPage);
+        when(userRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(userPage);
         when(entityMapper.toUserResponse(user)).thenReturn(userResponse);
         
         Page<UserResponse> result = userService.getAllUsers(null, null, null, null, pageable);
@@ -109,10 +122,25 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(userResponse, result.getContent().get(0));
-        verify(userRepository).findAll(pageable);
+        verify(userRepository).findAll(any(Specification.class), eq(pageable));
         verify(entityMapper).toUserResponse(user);
     }
     
+    @Test
+    void getAllUsers_WithFilters_KeepsRepositoryTotal() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Page<User> userPage = new PageImpl<>(List.of(user), pageable, 42);
+        
+        when(userRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(userPage);
+        when(entityMapper.toUserResponse(user)).thenReturn(userResponse);
+        
+        Page<UserResponse> result = userService.getAllUsers("test", "example", UserType.VOLUNTEER, true, pageable);
+        
+        assertEquals(42, result.getTotalElements());
+        assertEquals(List.of(userResponse), result.getContent());
+        verify(userRepository, never()).findAll(pageable);
+    }
+    
     @Test
     void getUserByUsername_Success() {
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
@@ -190,12 +218,12 @@ class UserServiceTest {
     
     @Test
     void getUserStatistics_Success() {
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user)); // Add this mock
-        when(userRepository.countTasksByUserIdAndStatus(1L, TaskStatus.COMPLETED)).thenReturn(3L);
-        when(userRepository.countTasksByUserIdAndStatus(1L, TaskStatus.CANCELLED)).thenReturn(1L);
-        when(userRepository.countCompletedParticipationsByUserId(1L, TaskStatus.COMPLETED)).thenReturn(5L);
-        when(userRepository.countVolunteersHelpedByUserId(1L)).thenReturn(2L);
+        UserStatistics statistics = UserStatistics.builder()
+                .userId(1L).user(user)
+                .createdTasks(4L).completedTasks(3L).cancelledTasks(1L)
+                .participatedTasks(5L).volunteersHelped(2L)
+                .build();
+        when(userStatisticsRepository.findWithUserByUsername("testuser")).thenReturn(Optional.of(statistics));
         
         UserStatisticsResponse result = userService.getUserStatistics("testuser");
         
@@ -203,21 +231,31 @@ class UserServiceTest {
         assertEquals(1L, result.getUserId());
         assertEquals("testuser", result.getUsername());
         assertEquals("VOLUNTEER", result.getUserType());
-        assertEquals(0L, result.getTotalCreatedTasks());
+        assertEquals(4L, result.getTotalCreatedTasks());
         assertEquals(3L, result.getTotalCompletedTasks());
         assertEquals(1L, result.getTotalCancelledTasks());
         assertEquals(5L, result.getTotalParticipatedTasks());
         assertEquals(2L, result.getTotalVolunteersHelped());
-        verify(userRepository).findByUsername("testuser");
-        verify(userRepository).findById(1L);
-        verify(userRepository).countTasksByUserIdAndStatus(1L, TaskStatus.COMPLETED);
-        verify(userRepository).countTasksByUserIdAndStatus(1L, TaskStatus.CANCELLED);
-        verify(userRepository).countCompletedParticipationsByUserId(1L, TaskStatus.COMPLETED);
-        verify(userRepository).countVolunteersHelpedByUserId(1L);
+        verifyNoInteractions(userRepository, userStatisticsService);
+    }
+    
+    @Test
+    void getUserStatisticsById_MissingRow_RefreshesFromSource() {
+        UserStatistics statistics = UserStatistics.builder().userId(1L).user(user).completedTasks(3L).build();
+        when(userStatisticsRepository.findWithUserByUserId(1L)).thenReturn(Optional.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userStatisticsService.refresh(user)).thenReturn(statistics);
+        
+        UserStatisticsResponse result = userService.getUserStatisticsById(1L);
+        
+        assertEquals(3L, result.getTotalCompletedTasks());
+        assertEquals(0L, result.getTotalCreatedTasks());
+        verify(userStatisticsService).refresh(user);
     }
     
     @Test
     void getUserStatistics_UserNotFound_ThrowsResourceNotFoundException() {
+        when(userStatisticsRepository.findWithUserByUsername("nonexistent")).thenReturn(Optional.empty());
         when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
         
         ResourceNotFoundException exception = assertThrows(
@@ -227,9 +265,7 @@ class UserServiceTest {
         
         assertEquals("User not found with username: nonexistent", exception.getMessage());
         verify(userRepository).findByUsername("nonexistent");
-        verify(userRepository, never()).countTasksByUserIdAndStatus(any(), any());
-        verify(userRepository, never()).countCompletedParticipationsByUserId(any(), any());
-        verify(userRepository, never()).countVolunteersHelpedByUserId(any());
+        verify(userStatisticsService, never()).refresh(any());
     }
     
     @Test
@@ -249,6 +285,17 @@ class UserServiceTest {
         verify(entityMapper).toUserResponse(user);
     }
 
+    @Test
+    void deleteUser_DeactivatesAndPublishesAccountChange() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        
+        userService.deleteUser(1L);
+        
+        assertFalse(user.getIsActive());
+        verify(userRepository).save(user);
+        verify(eventPublisher).publishEvent(new UserAccountChangedEvent("testuser"));
+    }
+
     @Test
     void getUserById_Success() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
@@ -0,0 +1,118 @@
+package org.example.service;
+
+import org.example.dto.LeaderboardEntryResponse;
+import org.example.dto.VolunteerCompletionCount;
+import org.example.exception.BadRequestException;
+import org.example.model.LeaderboardMetric;
+import org.example.model.User;
+import org.example.repository.ParticipationRepository;
+import org.example.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VolunteerLeaderboardTest {
+
+    @Mock
+    private ParticipationRepository participationRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private VolunteerLeaderboard leaderboard;
+    
+    private final YearMonth month = YearMonth.now();
+    
+    @BeforeEach
+    void setUp() {
+        leaderboard = new VolunteerLeaderboard(participationRepository, userRepository, 2);
+        when(participationRepository.countCompletionsSince(any())).thenReturn(List.of(
+                completions(1L, 10L, 3),
+                completions(2L, 10L, 1),
+                completions(2L, 11L, 1),
+                completions(3L, 12L, 1)));
+        leaderboard.rebuild();
+    }
+    
+    @Test
+    void top_RanksEachMetricAndKeepsOnlyCapacity() {
+        stubUsers();
+        
+        assertEquals(List.of(1L, 2L), userIds(LeaderboardMetric.COMPLETED_TASKS));
+        assertEquals(List.of(2L, 1L), userIds(LeaderboardMetric.PEOPLE_HELPED));
+        
+        Page<LeaderboardEntryResponse> second = leaderboard.top(LeaderboardMetric.COMPLETED_TASKS, month, PageRequest.of(1, 1));
+        assertEquals(2, second.getTotalElements());
+        LeaderboardEntryResponse entry = second.getContent().get(0);
+        assertEquals(2, entry.getRank());
+        assertEquals("volunteer2", entry.getUsername());
+        assertEquals(2L, entry.getScore());
+    }
+    
+    @Test
+    void onTaskCompletion_PromotesRisingVolunteerAndReselectsAfterRevocation() {
+        stubUsers();
+        
+        leaderboard.onTaskCompletion(new TaskCompletionEvent(100L, 13L, List.of(3L), LocalDateTime.now(), 1));
+        assertEquals(List.of(2L, 3L), userIds(LeaderboardMetric.PEOPLE_HELPED));
+        assertEquals(List.of(1L, 2L), userIds(LeaderboardMetric.COMPLETED_TASKS));
+        
+        leaderboard.onTaskCompletion(new TaskCompletionEvent(101L, 10L, List.of(1L), LocalDateTime.now(), -1));
+        leaderboard.onTaskCompletion(new TaskCompletionEvent(102L, 10L, List.of(1L), LocalDateTime.now(), -1));
+        assertEquals(List.of(2L, 3L), userIds(LeaderboardMetric.COMPLETED_TASKS));
+        verify(participationRepository, times(1)).countCompletionsSince(any());
+    }
+    
+    @Test
+    void rebuild_ReplaysCompletionsCommittedDuringTheQuery() {
+        stubUsers();
+        when(participationRepository.countCompletionsSince(any())).thenAnswer(invocation -> {
+            leaderboard.onTaskCompletion(new TaskCompletionEvent(100L, 13L, List.of(3L), LocalDateTime.now(), 1));
+            leaderboard.onTaskCompletion(new TaskCompletionEvent(101L, 14L, List.of(3L), LocalDateTime.now(), 1));
+            return List.of(completions(1L, 10L, 2), completions(3L, 12L, 1));
+        });
+        
+        leaderboard.rebuild();
+        
+        assertEquals(List.of(3L, 1L), userIds(LeaderboardMetric.PEOPLE_HELPED));
+        assertEquals(List.of(3L, 1L), userIds(LeaderboardMetric.COMPLETED_TASKS));
+    }
+    
+    @Test
+    void top_RejectsPeriodsThatAreNoLongerKept() {
+        assertThrows(BadRequestException.class,
+                () -> leaderboard.top(LeaderboardMetric.COMPLETED_TASKS, month.minusMonths(2), PageRequest.of(0, 10)));
+        verifyNoInteractions(userRepository);
+    }
+    
+    private List<Long> userIds(LeaderboardMetric metric) {
+        return leaderboard.top(metric, month, PageRequest.of(0, 10)).getContent().stream()
+                .map(LeaderboardEntryResponse::getUserId)
+                .toList();
+    }
+    
+    private void stubUsers() {
+        when(userRepository.findAllById(any())).thenReturn(List.of(user(1L), user(2L), user(3L)));
+    }
+    
+    private VolunteerCompletionCount completions(Long volunteerId, Long creatorId, long count) {
+        return new VolunteerCompletionCount(volunteerId, creatorId, month.getYear(), month.getMonthValue(), count);
+    }
+    
+    private User user(Long id) {
+        return User.builder().id(id).username("volunteer" + id).firstName("Іван").lastName("Петренко").build();
+    }
+}
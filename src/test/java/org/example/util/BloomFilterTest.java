@@ -0,0 +1,37 @@
+package org.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_NeverMissesAddedValues() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        String[] values = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString()).toArray(String[]::new);
+        
+        for (String value : values) {
+            filter.add(value);
+        }
+        
+        for (String value : values) {
+            assertTrue(filter.mightContain(value));
+        }
+    }
+    
+    @Test
+    void mightContain_KeepsFalsePositivesNearConfiguredRate() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.add(UUID.randomUUID().toString()));
+        
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                .count();
+        
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
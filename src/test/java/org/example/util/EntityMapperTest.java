@@ -0,0 +1,38 @@
+package org.example.util;
+
+import org.example.dto.TaskResponse;
+import org.example.model.Category;
+import org.example.model.Task;
+import org.example.model.TaskStatus;
+import org.example.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EntityMapperTest {
+
+    private final EntityMapper entityMapper = new EntityMapper();
+    
+    @Test
+    void toTaskResponse_SkipsUnselectedAssociations() {
+        Task task = spy(Task.builder()
+                .id(10L)
+                .title("Покупки")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .status(TaskStatus.OPEN)
+                .creator(User.builder().id(1L).username("creator1").build())
+                .category(Category.builder().id(1L).name("Допомога").build())
+                .build());
+        
+        TaskResponse response = entityMapper.toTaskResponse(task, FieldSelection.parse("id,title,creator.username"));
+        
+        assertEquals("creator1", response.getCreator().getUsername());
+        assertNull(response.getCategory());
+        assertNull(response.getParticipants());
+        verify(task, never()).getParticipants();
+        verify(task, never()).getImages();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    
+    @Test
+    void get_LoadsOnceUntilEntryExpires() {
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(Duration.ofSeconds(30), 10, clock);
+        AtomicInteger loads = new AtomicInteger();
+        
+        assertEquals(7L, cache.get("status=OPEN;", key -> 7L + loads.getAndIncrement()));
+        clock.advance(Duration.ofSeconds(29));
+        assertEquals(7L, cache.get("status=OPEN;", key -> 7L + loads.getAndIncrement()));
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(8L, cache.get("status=OPEN;", key -> 7L + loads.getAndIncrement()));
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void put_EvictsLeastRecentlyUsedEntryAtCapacity() {
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(Duration.ofSeconds(30), 2, clock);
+        cache.put("a", 1L);
+        cache.put("b", 2L);
+        assertEquals(1L, cache.getIfPresent("a"));
+        
+        cache.put("c", 3L);
+        
+        assertEquals(2, cache.size());
+        assertNull(cache.getIfPresent("b"));
+        assertEquals(1L, cache.getIfPresent("a"));
+        assertEquals(3L, cache.getIfPresent("c"));
+    }
+    
+    @Test
+    void getIfPresent_DropsExpiredEntry() {
+        ExpiringCache<String, Long> cache = new ExpiringCache<>(Duration.ofSeconds(30), 2, clock);
+        cache.put("a", 1L);
+        
+        clock.advance(Duration.ofMinutes(1));
+        
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(0, cache.size());
+    }
+    
+    private static class MutableClock extends Clock {
+        
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+        
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.dto.TaskResponse;
+import org.example.dto.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectionFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    
+    @Test
+    void write_KeepsOnlySelectedPathsInNestedObjectsAndLists() throws Exception {
+        UserResponse creator = UserResponse.builder().id(1L).username("creator1").email("c@test.com").build();
+        UserResponse participant = UserResponse.builder().id(2L).username("volunteer1").phone("+380").build();
+        TaskResponse task = TaskResponse.builder()
+                .id(10L)
+                .title("Покупки")
+                .description("Опис")
+                .creator(creator)
+                .participants(List.of(participant))
+                .build();
+        
+        JsonNode json = write(Map.of("content", List.of(task)), "id,title,participants.username");
+        JsonNode item = json.get("content").get(0);
+        
+        assertEquals(List.of("id", "title", "participants"), fieldNames(item));
+        assertEquals(List.of("username"), fieldNames(item.get("participants").get(0)));
+    }
+    
+    @Test
+    void write_WithoutSelection_WritesEveryField() throws Exception {
+        UserResponse user = UserResponse.builder().id(1L).username("creator1").email("c@test.com").build();
+        
+        String json = objectMapper.writer(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .writeValueAsString(user);
+        
+        assertEquals("c@test.com", objectMapper.readTree(json).get("email").asText());
+    }
+    
+    private JsonNode write(Object value, String fields) throws Exception {
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .addFilter(FieldSelectionFilter.ID, new FieldSelectionFilter(FieldSelection.parse(fields)));
+        return objectMapper.readTree(objectMapper.writer(filters).writeValueAsString(value));
+    }
+    
+    private List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}